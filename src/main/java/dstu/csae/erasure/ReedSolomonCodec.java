@@ -0,0 +1,239 @@
+package dstu.csae.erasure;
+
+import dstu.csae.exceptions.ExceptionMessageConstants;
+import dstu.csae.galois.extended.GaloisFieldExtension;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+public class ReedSolomonCodec {
+
+    public static final int DEFAULT_DECODE_CACHE_SIZE = 64;
+
+    @Getter
+    private final GaloisFieldExtension field;
+    @Getter
+    private final int dataShards;
+    @Getter
+    private final int parityShards;
+    private final int symbolSize;
+    private final int[][] parityMatrix;
+    @Getter
+    private final int decodeCacheSize;
+    private final Map<BitSet, int[][]> decodeMatrices;
+
+    public ReedSolomonCodec(GaloisFieldExtension field, int dataShards, int parityShards)
+            throws IllegalArgumentException{
+        this(field, dataShards, parityShards, DEFAULT_DECODE_CACHE_SIZE);
+    }
+
+    public ReedSolomonCodec(GaloisFieldExtension field, int dataShards, int parityShards, int decodeCacheSize)
+            throws IllegalArgumentException{
+        if(Objects.isNull(field)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.FIELD_IS_NULL);
+        }
+        int degree = field.getDegree();
+        if(field.getGaloisField().getCharacteristic() != 2
+                || (degree != Byte.SIZE && degree != Short.SIZE)){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.FIELD_IS_NOT_REGION_COMPATIBLE, field));
+        }
+        if(dataShards <= 0 || parityShards < 0 || dataShards + parityShards > 1 << degree){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.SHARD_COUNT_IS_INVALID,
+                            dataShards, parityShards, field));
+        }
+        if(decodeCacheSize < 0){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.CACHE_SIZE_IS_NEGATIVE, decodeCacheSize));
+        }
+        this.field = field;
+        this.dataShards = dataShards;
+        this.parityShards = parityShards;
+        this.symbolSize = degree / Byte.SIZE;
+        this.parityMatrix = generateParityMatrix();
+        this.decodeCacheSize = decodeCacheSize;
+        this.decodeMatrices = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true){
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BitSet, int[][]> eldest) {
+                return size() > decodeCacheSize;
+            }
+        });
+    }
+
+    public int getTotalShards(){
+        return dataShards + parityShards;
+    }
+
+    public void encode(ByteBuffer[] data, ByteBuffer[] parity) throws IllegalArgumentException{
+        int size = checkShards(data, dataShards, -1);
+        checkShards(parity, parityShards, size);
+        for(int i = 0; i < parityShards; i ++){
+            encodeRow(parityMatrix[i], data, parity[i]);
+        }
+    }
+
+    public void encode(List<ByteBuffer[]> data, List<ByteBuffer[]> parity) throws IllegalArgumentException{
+        checkStripes(data, parity);
+        IntStream.range(0, data.size()).parallel()
+                .forEach(i -> encode(data.get(i), parity.get(i)));
+    }
+
+    public void reconstruct(ByteBuffer[] shards, boolean[] present) throws IllegalArgumentException{
+        checkShards(shards, getTotalShards(), -1);
+        if(Objects.isNull(present)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.ARRAY_IS_NULL);
+        }
+        if(present.length != getTotalShards()){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.SHARD_COUNT_MISMATCH,
+                            getTotalShards(), present.length));
+        }
+        BitSet rows = new BitSet(getTotalShards());
+        for(int i = 0; i < present.length && rows.cardinality() < dataShards; i ++){
+            if(present[i]){
+                rows.set(i);
+            }
+        }
+        if(rows.cardinality() < dataShards){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.NOT_ENOUGH_SHARDS, dataShards, rows.cardinality()));
+        }
+        if(rows.nextClearBit(0) < dataShards){
+            int[][] decodeMatrix = decodeMatrices.get(rows);
+            if(Objects.isNull(decodeMatrix)){
+                decodeMatrix = generateDecodeMatrix(rows);
+                decodeMatrices.put(rows, decodeMatrix);
+            }
+            ByteBuffer[] sources = rows.stream().mapToObj(i -> shards[i]).toArray(ByteBuffer[]::new);
+            for(int j = 0; j < dataShards; j ++){
+                if(!present[j]){
+                    encodeRow(decodeMatrix[j], sources, shards[j]);
+                }
+            }
+        }
+        for(int i = 0; i < parityShards; i ++){
+            if(!present[dataShards + i]){
+                encodeRow(parityMatrix[i], shards, shards[dataShards + i]);
+            }
+        }
+    }
+
+    public void reconstruct(List<ByteBuffer[]> shards, List<boolean[]> present) throws IllegalArgumentException{
+        checkStripes(shards, present);
+        IntStream.range(0, shards.size()).parallel()
+                .forEach(i -> reconstruct(shards.get(i), present.get(i)));
+    }
+
+    private void encodeRow(int[] row, ByteBuffer[] sources, ByteBuffer destination){
+        field.multiplyRegion(row[0], sources[0], destination);
+        for(int j = 1; j < row.length; j ++){
+            field.multiplyAccumulateRegion(row[j], sources[j], destination);
+        }
+    }
+
+    private int[][] generateParityMatrix(){
+        int[][] matrix = new int[parityShards][dataShards];
+        for(int i = 0; i < parityShards; i ++){
+            for(int j = 0; j < dataShards; j ++){
+                matrix[i][j] = field.inverseOfMultiplication(field.add(dataShards + i, j));
+            }
+        }
+        return matrix;
+    }
+
+    private int[][] generateDecodeMatrix(BitSet rows){
+        int[][] matrix = new int[dataShards][];
+        int r = 0;
+        for(int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)){
+            if(row < dataShards){
+                matrix[r] = new int[dataShards];
+                matrix[r][row] = 1;
+            }else{
+                matrix[r] = parityMatrix[row - dataShards].clone();
+            }
+            r ++;
+        }
+        return invert(matrix);
+    }
+
+    private int[][] invert(int[][] matrix){
+        int n = matrix.length;
+        int[][] inverse = new int[n][n];
+        for(int i = 0; i < n; i ++){
+            inverse[i][i] = 1;
+        }
+        for(int column = 0; column < n; column ++){
+            int pivot = column;
+            while(matrix[pivot][column] == 0){
+                pivot ++;
+            }
+            swap(matrix, pivot, column);
+            swap(inverse, pivot, column);
+            int scale = field.inverseOfMultiplication(matrix[column][column]);
+            for(int j = 0; j < n; j ++){
+                matrix[column][j] = field.multiply(matrix[column][j], scale);
+                inverse[column][j] = field.multiply(inverse[column][j], scale);
+            }
+            for(int i = 0; i < n; i ++){
+                int factor = matrix[i][column];
+                if(i == column || factor == 0){
+                    continue;
+                }
+                for(int j = 0; j < n; j ++){
+                    matrix[i][j] = field.subtract(matrix[i][j], field.multiply(factor, matrix[column][j]));
+                    inverse[i][j] = field.subtract(inverse[i][j], field.multiply(factor, inverse[column][j]));
+                }
+            }
+        }
+        return inverse;
+    }
+
+    private int checkShards(ByteBuffer[] shards, int count, int size){
+        if(Objects.isNull(shards)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.ARRAY_IS_NULL);
+        }
+        if(shards.length != count){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.SHARD_COUNT_MISMATCH, count, shards.length));
+        }
+        for(int i = 0; i < shards.length; i ++){
+            if(Objects.isNull(shards[i])){
+                throw new IllegalArgumentException(
+                        String.format(ExceptionMessageConstants.SHARD_IS_NULL, i));
+            }
+            if(size < 0){
+                size = shards[i].remaining();
+            }
+            if(shards[i].remaining() != size || size % symbolSize != 0){
+                throw new IllegalArgumentException(
+                        String.format(ExceptionMessageConstants.SHARD_SIZE_MISMATCH,
+                                i, shards[i].remaining(), size));
+            }
+        }
+        return size;
+    }
+
+    private static void checkStripes(List<?> first, List<?> second){
+        if(Objects.isNull(first) || Objects.isNull(second)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.ARRAY_IS_NULL);
+        }
+        if(first.size() != second.size()){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.SHARD_COUNT_MISMATCH, first.size(), second.size()));
+        }
+    }
+
+    private static void swap(int[][] matrix, int first, int second){
+        int[] row = matrix[first];
+        matrix[first] = matrix[second];
+        matrix[second] = row;
+    }
+}
@@ -10,5 +10,34 @@ public interface ExceptionMessageConstants {
     String NUMBER_DIVIDE_BY_ZERO = "Попытка деления числа %d на 0";
     String NUMBER_IS_NOT_PRIME = "Число %d не является простым";
     String FIELD_IS_NULL = "Поле не задано";
+    String ARRAY_IS_NULL = "Массив не задан";
+    String BUFFER_IS_NULL = "Буфер не задан";
+    String BUFFER_IS_READ_ONLY = "Буфер результата доступен только для чтения";
+    String FIELD_IS_NOT_REGION_COMPATIBLE = "Поле %s не является полем GF(2⁸) или GF(2¹⁶)";
+    String REGION_LENGTH_IS_ODD = "Длина области %d должна быть чётной для элементов GF(2¹⁶)";
+    String SHARD_COUNT_IS_INVALID = "Недопустимое количество фрагментов: %d информационных и %d проверочных для поля %s";
+    String SHARD_COUNT_MISMATCH = "Ожидалось фрагментов: %d, получено: %d";
+    String SHARD_IS_NULL = "Фрагмент %d не задан";
+    String SHARD_SIZE_MISMATCH = "Размер фрагмента %d равен %d, ожидался %d";
+    String NOT_ENOUGH_SHARDS = "Для восстановления требуется %d фрагментов, доступно %d";
+    String CACHE_SIZE_IS_NEGATIVE = "Размер кэша %d не может быть отрицательным";
+    String MATRIX_IS_NULL = "Матрица не задана";
+    String MATRIX_SIZE_IS_INVALID = "Недопустимый размер матрицы %dx%d";
+    String MATRIX_IS_NOT_SQUARE = "Матрица размера %dx%d не является квадратной";
+    String MATRIX_DIMENSION_MISMATCH = "Размеры матриц %dx%d и %dx%d несовместимы";
+    String VECTOR_LENGTH_MISMATCH = "Длина вектора %d не совпадает с размерностью %d";
+    String SPARSE_STRUCTURE_IS_INVALID = "Некорректная структура разреженной матрицы";
+    String FIELDS_ARE_DIFFERENT = "Элементы принадлежат разным полям %s и %s";
+    String ARRAY_LENGTH_MISMATCH = "Длина массива результата %d меньше длины исходного массива %d";
+    String MODE_IS_NULL = "Режим арифметики поля не задан";
+    String POLYNOMIAL_KIND_IS_NULL = "Тип полинома не задан";
+    String PATH_IS_NULL = "Путь к файлу не задан";
+    String FIELD_DOES_NOT_FIT_SHORT = "Элементы поля %s не помещаются в 16 бит";
+    String FIELD_IS_NOT_BINARY = "Поле %s не является полем характеристики 2";
+    String POLYNOMIAL_DEGREE_IS_NOT_SUPPORTED = "Степень полинома %s должна быть в пределах от %d до %d";
+    String FIELD_IS_TOO_LARGE = "Поле %s слишком велико для режима %s";
+    String SPARSE_TERMS_MISMATCH = "Количество степеней %d не совпадает с количеством коэффициентов %d";
+    String EXPONENT_IS_NEGATIVE = "Степень монома %d не может быть отрицательной";
+    String POINTS_ARE_NOT_DISTINCT = "Узел интерполяции %d встречается более одного раза";
     String REVERSE_ELEMENT_DOES_NOT_EXIST = "Обратный элемент для элемента %s не существует";
 }
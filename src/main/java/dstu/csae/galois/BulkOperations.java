@@ -0,0 +1,221 @@
+package dstu.csae.galois;
+
+import dstu.csae.exceptions.ExceptionMessageConstants;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+class BulkOperations {
+
+    static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    static final int VECTOR_ADDITION_LIMIT = 1 << 30;
+    static final int VECTOR_MULTIPLICATION_LIMIT = 46341;
+    static final int SHORT_ELEMENT_LIMIT = 1 << Short.SIZE;
+
+    static void addition(GaloisField galoisField, int[] first, int[] second, int[] out){
+        checkLengths(first, second, out);
+        first = reduce(galoisField, first, first.length);
+        second = reduce(galoisField, second, first.length);
+        int modulo = galoisField.getCharacteristic();
+        int start = 0;
+        if(VECTORIZED && modulo <= VECTOR_ADDITION_LIMIT){
+            start = VectorBulkOperations.addition(modulo, first, second, out);
+        }
+        for(int i = start; i < first.length; i ++){
+            long addition = (long) first[i] + second[i];
+            out[i] = (int) (addition >= modulo ? addition - modulo : addition);
+        }
+    }
+
+    static void subtraction(GaloisField galoisField, int[] reduced, int[] subtracted, int[] out){
+        checkLengths(reduced, subtracted, out);
+        subtracted = reduce(galoisField, subtracted, reduced.length);
+        reduced = reduce(galoisField, reduced, reduced.length);
+        int modulo = galoisField.getCharacteristic();
+        int start = 0;
+        if(VECTORIZED){
+            start = VectorBulkOperations.subtraction(modulo, reduced, subtracted, out);
+        }
+        for(int i = start; i < reduced.length; i ++){
+            int subtraction = reduced[i] - subtracted[i];
+            out[i] = subtraction < 0 ? subtraction + modulo : subtraction;
+        }
+    }
+
+    static void multiplication(GaloisField galoisField, int[] first, int[] second, int[] out){
+        checkLengths(first, second, out);
+        first = reduce(galoisField, first, first.length);
+        second = reduce(galoisField, second, first.length);
+        int modulo = galoisField.getCharacteristic();
+        int start = 0;
+        if(VECTORIZED && modulo <= VECTOR_MULTIPLICATION_LIMIT){
+            start = VectorBulkOperations.multiplication(modulo, first, second, out);
+        }
+        for(int i = start; i < first.length; i ++){
+            out[i] = (int) ((long) first[i] * second[i] % modulo);
+        }
+    }
+
+    static void scaleAndAccumulate(GaloisField galoisField, int scalar, int[] x, int[] accumulator){
+        checkLengths(x, accumulator, accumulator);
+        x = reduce(galoisField, x, x.length);
+        int[] reducedAccumulator = reduce(galoisField, accumulator, x.length);
+        if(reducedAccumulator != accumulator){
+            System.arraycopy(reducedAccumulator, 0, accumulator, 0, x.length);
+        }
+        int modulo = galoisField.getCharacteristic();
+        scalar = galoisField.bringToField(scalar);
+        int start = 0;
+        if(VECTORIZED && modulo <= VECTOR_MULTIPLICATION_LIMIT){
+            start = VectorBulkOperations.scaleAndAccumulate(modulo, scalar, x, accumulator);
+        }
+        for(int i = start; i < x.length; i ++){
+            accumulator[i] = (int) ((accumulator[i] + (long) scalar * x[i]) % modulo);
+        }
+    }
+
+    static int dot(GaloisField galoisField, int[] first, int[] second){
+        checkLengths(first, second, second);
+        first = reduce(galoisField, first, first.length);
+        second = reduce(galoisField, second, first.length);
+        int modulo = galoisField.getCharacteristic();
+        int start = 0;
+        long dot = 0;
+        if(VECTORIZED && modulo <= VECTOR_MULTIPLICATION_LIMIT){
+            dot = VectorBulkOperations.dot(modulo, first, second, first.length);
+            start = VectorBulkOperations.loopBound(first.length);
+        }
+        for(int i = start; i < first.length; i ++){
+            dot = (dot + (long) first[i] * second[i]) % modulo;
+        }
+        return (int) dot;
+    }
+
+    static void addition(GaloisField galoisField, short[] first, short[] second, short[] out){
+        checkLengths(galoisField, first, second, out);
+        first = reduce(galoisField, first, first.length);
+        second = reduce(galoisField, second, first.length);
+        int modulo = galoisField.getCharacteristic();
+        int start = 0;
+        if(VECTORIZED){
+            start = VectorBulkOperations.addition(modulo, first, second, out);
+        }
+        for(int i = start; i < first.length; i ++){
+            int addition = Short.toUnsignedInt(first[i]) + Short.toUnsignedInt(second[i]);
+            out[i] = (short) (addition >= modulo ? addition - modulo : addition);
+        }
+    }
+
+    static void multiplication(GaloisField galoisField, short[] first, short[] second, short[] out){
+        checkLengths(galoisField, first, second, out);
+        first = reduce(galoisField, first, first.length);
+        second = reduce(galoisField, second, first.length);
+        int modulo = galoisField.getCharacteristic();
+        int start = 0;
+        if(VECTORIZED && modulo <= VECTOR_MULTIPLICATION_LIMIT){
+            start = VectorBulkOperations.multiplication(modulo, first, second, out);
+        }
+        for(int i = start; i < first.length; i ++){
+            out[i] = (short) ((long) Short.toUnsignedInt(first[i]) * Short.toUnsignedInt(second[i]) % modulo);
+        }
+    }
+
+    static void scaleAndAccumulate(GaloisField galoisField, int scalar, short[] x, short[] accumulator){
+        checkLengths(galoisField, x, accumulator, accumulator);
+        x = reduce(galoisField, x, x.length);
+        short[] reducedAccumulator = reduce(galoisField, accumulator, x.length);
+        if(reducedAccumulator != accumulator){
+            System.arraycopy(reducedAccumulator, 0, accumulator, 0, x.length);
+        }
+        int modulo = galoisField.getCharacteristic();
+        scalar = galoisField.bringToField(scalar);
+        int start = 0;
+        if(VECTORIZED && modulo <= VECTOR_MULTIPLICATION_LIMIT){
+            start = VectorBulkOperations.scaleAndAccumulate(modulo, scalar, x, accumulator);
+        }
+        for(int i = start; i < x.length; i ++){
+            long product = (long) scalar * Short.toUnsignedInt(x[i]);
+            accumulator[i] = (short) ((Short.toUnsignedInt(accumulator[i]) + product) % modulo);
+        }
+    }
+
+    static int dot(GaloisField galoisField, short[] first, short[] second){
+        checkLengths(galoisField, first, second, second);
+        first = reduce(galoisField, first, first.length);
+        second = reduce(galoisField, second, first.length);
+        int modulo = galoisField.getCharacteristic();
+        int start = 0;
+        long dot = 0;
+        if(VECTORIZED && modulo <= VECTOR_MULTIPLICATION_LIMIT){
+            dot = VectorBulkOperations.dot(modulo, first, second, first.length);
+            start = VectorBulkOperations.shortLoopBound(first.length);
+        }
+        for(int i = start; i < first.length; i ++){
+            dot = (dot + (long) Short.toUnsignedInt(first[i]) * Short.toUnsignedInt(second[i])) % modulo;
+        }
+        return (int) dot;
+    }
+
+    private static int[] reduce(GaloisField galoisField, int[] values, int length){
+        int modulo = galoisField.getCharacteristic();
+        boolean reduced = true;
+        for(int i = 0; i < length; i ++){
+            reduced &= values[i] >= 0 & values[i] < modulo;
+        }
+        if(reduced){
+            return values;
+        }
+        int[] copy = new int[length];
+        for(int i = 0; i < length; i ++){
+            copy[i] = galoisField.bringToField(values[i]);
+        }
+        return copy;
+    }
+
+    private static short[] reduce(GaloisField galoisField, short[] values, int length){
+        int modulo = galoisField.getCharacteristic();
+        boolean reduced = true;
+        for(int i = 0; i < length; i ++){
+            reduced &= Short.toUnsignedInt(values[i]) < modulo;
+        }
+        if(reduced){
+            return values;
+        }
+        short[] copy = new short[length];
+        for(int i = 0; i < length; i ++){
+            copy[i] = (short) (Short.toUnsignedInt(values[i]) % modulo);
+        }
+        return copy;
+    }
+
+    private static void checkLengths(int[] first, int[] second, int[] out){
+        if(checkNullable(first, second, out)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.ARRAY_IS_NULL);
+        }
+        checkLength(first.length, second.length);
+        checkLength(first.length, out.length);
+    }
+
+    private static void checkLengths(GaloisField galoisField, short[] first, short[] second, short[] out){
+        if(checkNullable(first, second, out)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.ARRAY_IS_NULL);
+        }
+        if(galoisField.getCharacteristic() > SHORT_ELEMENT_LIMIT){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.FIELD_DOES_NOT_FIT_SHORT, galoisField));
+        }
+        checkLength(first.length, second.length);
+        checkLength(first.length, out.length);
+    }
+
+    private static void checkLength(int length, int outLength){
+        if(outLength < length){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.ARRAY_LENGTH_MISMATCH, outLength, length));
+        }
+    }
+
+    private static boolean checkNullable(Object ... objects){
+        return Arrays.stream(objects).anyMatch(Objects::isNull);
+    }
+}
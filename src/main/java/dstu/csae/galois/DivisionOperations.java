@@ -0,0 +1,124 @@
+package dstu.csae.galois;
+
+import java.util.Arrays;
+
+final class DivisionOperations {
+
+    static final int NEWTON_THRESHOLD = 64;
+
+    private DivisionOperations(){}
+
+    static int[][] divisionWithRemainder(GaloisField galoisField, int[] divisible, int[] divisor){
+        int divisibleDegree = degreeOf(divisible);
+        int divisorDegree = degreeOf(divisor);
+        if(divisibleDegree < divisorDegree){
+            return new int[][]{new int[1], Arrays.copyOf(divisible, Math.max(1, divisorDegree))};
+        }
+        int quotientLength = divisibleDegree - divisorDegree + 1;
+        if(Math.min(quotientLength, divisorDegree + 1) < NEWTON_THRESHOLD){
+            return longDivision(galoisField, divisible, divisibleDegree, divisor, divisorDegree);
+        }
+        return newtonDivision(galoisField, divisible, divisibleDegree, divisor, divisorDegree);
+    }
+
+    static int degreeOf(int[] coefficients){
+        int degree = coefficients.length - 1;
+        while(degree >= 0 && coefficients[degree] == 0){
+            degree --;
+        }
+        return degree;
+    }
+
+    private static int[][] longDivision(GaloisField galoisField,
+                                        int[] divisible, int divisibleDegree,
+                                        int[] divisor, int divisorDegree){
+        long modulus = galoisField.getCharacteristic();
+        long leadInverse = galoisField.inverseOfMultiplication(divisor[divisorDegree]);
+        int[] remainder = Arrays.copyOf(divisible, divisibleDegree + 1);
+        int[] quotient = new int[divisibleDegree - divisorDegree + 1];
+        for(int i = divisibleDegree; i >= divisorDegree; i --){
+            long coefficient = remainder[i] * leadInverse % modulus;
+            quotient[i - divisorDegree] = (int) coefficient;
+            if(coefficient == 0){
+                continue;
+            }
+            long negated = modulus - coefficient;
+            int shift = i - divisorDegree;
+            for(int j = 0; j <= divisorDegree; j ++){
+                remainder[shift + j] = (int) ((remainder[shift + j] + negated * divisor[j]) % modulus);
+            }
+        }
+        return new int[][]{quotient, Arrays.copyOf(remainder, Math.max(1, divisorDegree))};
+    }
+
+    private static int[][] newtonDivision(GaloisField galoisField,
+                                          int[] divisible, int divisibleDegree,
+                                          int[] divisor, int divisorDegree){
+        int quotientLength = divisibleDegree - divisorDegree + 1;
+        int[] inverse = seriesInverse(galoisField, reverse(divisor, divisorDegree + 1), quotientLength);
+        int[] quotient = quotient(galoisField, divisible, divisibleDegree, inverse, quotientLength);
+        return new int[][]{quotient, subtractProduct(galoisField, divisible, divisor, divisorDegree, quotient)};
+    }
+
+    static int[] remainder(GaloisField galoisField, int[] divisible, int[] divisor, int divisorDegree,
+                           int[] reversedInverse){
+        int divisibleDegree = degreeOf(divisible);
+        if(divisibleDegree < divisorDegree){
+            return Arrays.copyOf(divisible, Math.max(1, divisorDegree));
+        }
+        int quotientLength = divisibleDegree - divisorDegree + 1;
+        if(reversedInverse.length < quotientLength){
+            return divisionWithRemainder(galoisField, divisible, divisor)[1];
+        }
+        int[] quotient = quotient(galoisField, divisible, divisibleDegree,
+                Arrays.copyOf(reversedInverse, quotientLength), quotientLength);
+        return subtractProduct(galoisField, divisible, divisor, divisorDegree, quotient);
+    }
+
+    private static int[] quotient(GaloisField galoisField, int[] divisible, int divisibleDegree,
+                                  int[] reversedInverse, int quotientLength){
+        int[] reversedDivisible = reverse(divisible, divisibleDegree + 1);
+        int[] reversedQuotient = MultiplicationOperations.multiplication(
+                Arrays.copyOf(reversedDivisible, quotientLength), reversedInverse,
+                galoisField.getCharacteristic());
+        return reverse(reversedQuotient, quotientLength);
+    }
+
+    private static int[] subtractProduct(GaloisField galoisField, int[] divisible, int[] divisor, int divisorDegree,
+                                         int[] quotient){
+        int modulus = galoisField.getCharacteristic();
+        int[] product = MultiplicationOperations.multiplication(
+                quotient, Arrays.copyOf(divisor, divisorDegree + 1), modulus);
+        int[] remainder = new int[Math.max(1, divisorDegree)];
+        for(int i = 0; i < divisorDegree; i ++){
+            int difference = divisible[i] - product[i];
+            remainder[i] = difference < 0 ? difference + modulus : difference;
+        }
+        return remainder;
+    }
+
+    static int[] seriesInverse(GaloisField galoisField, int[] series, int precision){
+        int modulus = galoisField.getCharacteristic();
+        int[] inverse = new int[]{galoisField.inverseOfMultiplication(series[0])};
+        for(int length = 1; length < precision; ){
+            length = Math.min(2 * length, precision);
+            int[] error = MultiplicationOperations.multiplication(
+                    Arrays.copyOf(series, Math.min(series.length, length)), inverse, modulus);
+            int[] correction = new int[length];
+            for(int i = 0; i < length && i < error.length; i ++){
+                correction[i] = error[i] == 0 ? 0 : modulus - error[i];
+            }
+            correction[0] = (int) ((correction[0] + 2L) % modulus);
+            inverse = Arrays.copyOf(MultiplicationOperations.multiplication(inverse, correction, modulus), length);
+        }
+        return Arrays.copyOf(inverse, precision);
+    }
+
+    static int[] reverse(int[] coefficients, int length){
+        int[] reversed = new int[length];
+        for(int i = 0; i < length && i < coefficients.length; i ++){
+            reversed[length - 1 - i] = coefficients[i];
+        }
+        return reversed;
+    }
+}
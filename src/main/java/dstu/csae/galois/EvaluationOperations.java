@@ -0,0 +1,119 @@
+package dstu.csae.galois;
+
+import dstu.csae.exceptions.ExceptionMessageConstants;
+import dstu.csae.polynomial.Polynomial;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+final class EvaluationOperations {
+
+    static final int TREE_THRESHOLD = 32;
+
+    private EvaluationOperations(){}
+
+    static int evaluate(GaloisField galoisField, Polynomial polynomial, int x)
+            throws IllegalArgumentException{
+        return evaluate(galoisField, coefficients(galoisField, polynomial), x);
+    }
+
+    static void evaluate(GaloisField galoisField, Polynomial polynomial, int[] points, int[] out)
+            throws IllegalArgumentException{
+        int[] coefficients = coefficients(galoisField, polynomial);
+        if(Objects.isNull(points) || Objects.isNull(out)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.ARRAY_IS_NULL);
+        }
+        if(out.length < points.length){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.ARRAY_LENGTH_MISMATCH, out.length, points.length));
+        }
+        evaluate(galoisField, coefficients, points, out);
+    }
+
+    static int evaluate(GaloisField galoisField, int[] coefficients, int x){
+        long modulus = galoisField.getCharacteristic();
+        long point = galoisField.bringToField(x);
+        long result = 0;
+        for(int i = coefficients.length - 1; i >= 0; i --){
+            result = (result * point + coefficients[i]) % modulus;
+        }
+        return (int) result;
+    }
+
+    static void evaluate(GaloisField galoisField, int[] coefficients, int[] points, int[] out){
+        int degree = DivisionOperations.degreeOf(coefficients);
+        if(degree < 0){
+            Arrays.fill(out, 0, points.length, 0);
+            return;
+        }
+        int block = Math.max(TREE_THRESHOLD, degree + 1);
+        for(int from = 0; from < points.length; from += block){
+            int to = Math.min(points.length, from + block);
+            if(to - from < TREE_THRESHOLD || degree < TREE_THRESHOLD){
+                for(int i = from; i < to; i ++){
+                    out[i] = evaluate(galoisField, coefficients, points[i]);
+                }
+                continue;
+            }
+            evaluate(galoisField, coefficients, subproductTree(galoisField, points, from, to), out, from);
+        }
+    }
+
+    static void evaluate(GaloisField galoisField, int[] coefficients, int[][][] tree, int[] out, int offset){
+        int[][] remainders = new int[][]{
+                DivisionOperations.divisionWithRemainder(galoisField, coefficients, tree[tree.length - 1][0])[1]};
+        for(int level = tree.length - 2; level >= 0; level --){
+            int[][] nodes = tree[level];
+            int[][] next = new int[nodes.length][];
+            for(int i = 0; i < nodes.length; i ++){
+                int[] parent = remainders[i / 2];
+                next[i] = i % 2 == 0 && i == nodes.length - 1
+                        ? parent
+                        : DivisionOperations.divisionWithRemainder(galoisField, parent, nodes[i])[1];
+            }
+            remainders = next;
+        }
+        for(int i = 0; i < remainders.length; i ++){
+            out[offset + i] = remainders[i][0];
+        }
+    }
+
+    private static int[] coefficients(GaloisField galoisField, Polynomial polynomial)
+            throws IllegalArgumentException{
+        if(Objects.isNull(polynomial)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.POLYNOMIAL_IS_NULL);
+        }
+        int[] coefficients = polynomial.getCoefficients();
+        for(int i = 0; i < coefficients.length; i ++){
+            coefficients[i] = galoisField.bringToField(coefficients[i]);
+        }
+        return coefficients;
+    }
+
+    static int[][][] subproductTree(GaloisField galoisField, int[] points, int from, int to){
+        int modulus = galoisField.getCharacteristic();
+        int count = to - from;
+        int height = 1;
+        while((1 << (height - 1)) < count){
+            height ++;
+        }
+        int[][][] tree = new int[height][][];
+        int[][] leaves = new int[count][];
+        for(int i = 0; i < count; i ++){
+            int point = galoisField.bringToField(points[from + i]);
+            leaves[i] = new int[]{point == 0 ? 0 : modulus - point, 1};
+        }
+        tree[0] = leaves;
+        for(int level = 1; level < height; level ++){
+            int[][] children = tree[level - 1];
+            int[][] nodes = new int[(children.length + 1) / 2][];
+            for(int i = 0; i < nodes.length; i ++){
+                nodes[i] = 2 * i + 1 < children.length
+                        ? MultiplicationOperations.multiplication(children[2 * i], children[2 * i + 1], modulus)
+                        : children[2 * i];
+            }
+            tree[level] = nodes;
+        }
+        return tree;
+    }
+}
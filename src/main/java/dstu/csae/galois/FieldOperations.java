@@ -2,12 +2,12 @@ package dstu.csae.galois;
 
 import dstu.csae.exceptions.ExceptionMessageConstants;
 import dstu.csae.exceptions.ReverseElementEvaluationException;
-import dstu.csae.math.ArithmeticFunctions;
 import dstu.csae.polynomial.Polynomial;
 
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.Optional;
 
 class FieldOperations extends Operations {
 
@@ -20,7 +20,9 @@ class FieldOperations extends Operations {
         if(first == 0 || second == 0){
             return Math.max(first, second);
         }
-        return  bringToField(galoisField, first + second);
+        long addition = (long) first + second;
+        int modulo = galoisField.getCharacteristic();
+        return (int) (addition >= modulo ? addition - modulo : addition);
     }
 
     static Polynomial addition(GaloisField galoisField, Polynomial first, Polynomial second){
@@ -52,7 +54,7 @@ class FieldOperations extends Operations {
         }
         first = bringToField(galoisField, first);
         second = bringToField(galoisField, second);
-        return bringToField(galoisField, first * second);
+        return (int) ((long) first * second % galoisField.getCharacteristic());
     }
 
     static Polynomial multiplication(GaloisField galoisField, Polynomial first, Polynomial second){
@@ -93,7 +95,7 @@ class FieldOperations extends Operations {
         }
         int[] divisibleC = divisible.getCoefficients();
         int[] divisorC = divisor.getCoefficients();
-        return new Polynomial(division(galoisField, divisibleC, divisorC));
+        return new Polynomial(divisionWithRemainder(galoisField, divisibleC, divisorC)[0]);
     }
 
     static int mod(GaloisField galoisField, int divisible, int divisor)
@@ -114,12 +116,16 @@ class FieldOperations extends Operations {
         if(checkNullable(galoisField, divisible, divisor)){
             return null;
         }
+        if(divisor.equals(Polynomial.ZERO)) {
+            throw new IllegalArgumentException(ExceptionMessageConstants.DIVIDE_BY_ZERO);
+        }
+        Optional<SparseReducer> reducer = galoisField.getReducer(divisor);
+        if(reducer.isPresent()){
+            return reducer.get().reduce(divisible);
+        }
         int[] divisibleC = divisible.getCoefficients();
         int[] divisorC = divisor.getCoefficients();
-        int[] rem = division(galoisField, divisibleC, divisorC);
-        rem = multiplication(galoisField, divisorC, rem);
-        rem = subtraction(galoisField, divisibleC, rem);
-        return new Polynomial(rem);
+        return new Polynomial(divisionWithRemainder(galoisField, divisibleC, divisorC)[1]);
     }
 
     static int inverseOfAddition(GaloisField galoisField, int number){
@@ -140,10 +146,65 @@ class FieldOperations extends Operations {
         if(!isInField(galoisField, number)) {
             number = bringToField(galoisField, number);
         }
-        int mod = galoisField.getCharacteristic();
-        int phi = ArithmeticFunctions.getEulerFunction(mod);
-        number = powMod(galoisField, number, phi - 1);
-        return bringToField(galoisField, number);
+        if(number == 0){
+            throw new ReverseElementEvaluationException(
+                    String.format(ExceptionMessageConstants.REVERSE_ELEMENT_DOES_NOT_EXIST, number)
+            );
+        }
+        if(galoisField.getCharacteristic() <= galoisField.getInverseTableThreshold()){
+            return galoisField.getInverseTable()[number];
+        }
+        return binaryInverse(number, galoisField.getCharacteristic());
+    }
+
+    static void inverseOfMultiplication(GaloisField galoisField, int[] in, int[] out)
+            throws IllegalArgumentException{
+        batchInverse(in, out, number -> bringToField(galoisField, number),
+                (first, second) -> multiplication(galoisField, first, second),
+                number -> inverseOfMultiplication(galoisField, number));
+    }
+
+    static int[] generateInverseTable(GaloisField galoisField){
+        int modulo = galoisField.getCharacteristic();
+        int[] inverseTable = new int[modulo];
+        if(modulo > 1){
+            inverseTable[1] = 1;
+        }
+        for(int i = 2; i < modulo; i ++){
+            inverseTable[i] = (int) ((modulo - (long) (modulo / i) * inverseTable[modulo % i] % modulo) % modulo);
+        }
+        return inverseTable;
+    }
+
+    private static int binaryInverse(int number, int modulo){
+        long u = number;
+        long v = modulo;
+        long first = 1;
+        long second = 0;
+        while(u != 1 && v != 1){
+            while((u & 1) == 0){
+                u >>= 1;
+                first = (first & 1) == 0 ? first >> 1 : (first + modulo) >> 1;
+            }
+            while((v & 1) == 0){
+                v >>= 1;
+                second = (second & 1) == 0 ? second >> 1 : (second + modulo) >> 1;
+            }
+            if(u >= v){
+                u -= v;
+                first -= second;
+                if(first < 0){
+                    first += modulo;
+                }
+            }else{
+                v -= u;
+                second -= first;
+                if(second < 0){
+                    second += modulo;
+                }
+            }
+        }
+        return (int) (u == 1 ? first : second);
     }
 
     static int powMod(GaloisField galoisField, int number, int degree){
@@ -160,21 +221,34 @@ class FieldOperations extends Operations {
             number = inverseOfMultiplication(galoisField, number);
             return powMod(galoisField, number, -degree);
         }
-        int multiplier = 1;
+        long modulo = galoisField.getCharacteristic();
+        long multiplier = 1;
+        long square = number;
         while(degree != 1){
             if(degree % 2 != 0){
-                multiplier = bringToField(galoisField, multiplier * number);
+                multiplier = multiplier * square % modulo;
                 degree --;
             }
-            number = bringToField(galoisField, (int)Math.pow(number, 2));
+            square = square * square % modulo;
             degree /= 2;
         }
-        number = bringToField(galoisField, multiplier * number);
-        return number;
+        return (int) (multiplier * square % modulo);
     }
 
     static boolean isIrreducible(GaloisField galoisField, Polynomial polynomial){
-        return !checkNullable(galoisField, polynomial);
+        if(checkNullable(galoisField, polynomial)){
+            return false;
+        }
+        return IrreducibilityOperations.isIrreducible(galoisField,
+                bringToField(galoisField, polynomial.getCoefficients()));
+    }
+
+    static boolean isPrimitive(GaloisField galoisField, Polynomial polynomial){
+        if(checkNullable(galoisField, polynomial)){
+            return false;
+        }
+        return PrimitivityOperations.isPrimitive(galoisField,
+                bringToField(galoisField, polynomial.getCoefficients()));
     }
 
     static int bringToField(GaloisField galoisField, int number){
@@ -218,38 +292,39 @@ class FieldOperations extends Operations {
     }
 
     private static int[] addition(GaloisField galoisField, int[] firstC, int[] secondC){
-        firstC = bringToField(galoisField, firstC);
-        secondC = bringToField(galoisField, secondC);
-        return bringToField(galoisField, addition(firstC, secondC));
+        int[] addition = new int[Math.max(firstC.length, secondC.length)];
+        for(int i = 0; i < addition.length; i ++){
+            addition[i] = addition(galoisField,
+                    i < firstC.length ? firstC[i] : 0,
+                    i < secondC.length ? secondC[i] : 0);
+        }
+        return addition;
     }
 
     private static int[] subtraction(GaloisField galoisField, int[] reducedC, int[] subtractedC){
-        reducedC = bringToField(galoisField, reducedC);
-        subtractedC = bringToField(galoisField, subtractedC);
-        return bringToField(galoisField, subtraction(reducedC, subtractedC));
+        int[] subtraction = new int[Math.max(reducedC.length, subtractedC.length)];
+        for(int i = 0; i < subtraction.length; i ++){
+            subtraction[i] = subtraction(galoisField,
+                    i < reducedC.length ? reducedC[i] : 0,
+                    i < subtractedC.length ? subtractedC[i] : 0);
+        }
+        return subtraction;
     }
 
     private static int[] multiplication(GaloisField galoisField, int[] firstC, int[] secondC){
         firstC = bringToField(galoisField, firstC);
         secondC = bringToField(galoisField, secondC);
-        return bringToField(galoisField, multiplication(firstC, secondC));
+        return multiplication(firstC, secondC, galoisField.getCharacteristic());
     }
 
-    private static int[] division(GaloisField galoisField, int[] divisible, int[] divisor){
-        divisible = bringToField(galoisField,divisible);
+    private static int[][] divisionWithRemainder(GaloisField galoisField, int[] divisible, int[] divisor)
+            throws IllegalArgumentException{
+        divisible = bringToField(galoisField, divisible);
         divisor = bringToField(galoisField, divisor);
-        int[] division = new int[divisible.length - divisor.length + 1];
-        int[] current;
-        int divisibleDegree = divisible.length - 1;
-        int divisorDegree = divisor.length - 1;
-        while(divisibleDegree >= divisorDegree){
-            current = new int[divisibleDegree];
-            division[divisibleDegree - divisorDegree] = divisible[divisibleDegree] / divisor[divisorDegree];
-            current[divisibleDegree - divisorDegree] = division[divisibleDegree - divisorDegree];
-            divisible = subtraction(galoisField, divisible, multiplication(galoisField, current, divisor));
-            divisibleDegree--;
-        }
-        return division;
+        if(DivisionOperations.degreeOf(divisor) < 0){
+            throw new IllegalArgumentException(ExceptionMessageConstants.DIVIDE_BY_ZERO);
+        }
+        return DivisionOperations.divisionWithRemainder(galoisField, divisible, divisor);
     }
 
     private static int[] bringToField(GaloisField galoisField, int[] coefficients){
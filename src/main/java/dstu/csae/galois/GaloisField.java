@@ -8,19 +8,27 @@ import lombok.Getter;
 
 import java.math.BigInteger;
 import java.security.InvalidParameterException;
-import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.IntStream;
 
-public class GaloisField implements Field, Cloneable{
+public class GaloisField implements IntField, Cloneable{
 
     @Getter private int characteristic;
-    private int[] elements;
+    @Getter private int inverseTableThreshold;
+    private volatile int[] inverseTable;
+    private volatile Map.Entry<Polynomial, Optional<SparseReducer>> reducer;
     public static final int ADDITION_NEUTRAL_ELEMENT = 0;
     public static final int MULTIPLICATION_NEUTRAL_ELEMENT = 1;
+    public static final int DEFAULT_INVERSE_TABLE_THRESHOLD = 1 << 16;
     private GaloisField(){}
 
     public GaloisField(int characteristic){
+        this(characteristic, DEFAULT_INVERSE_TABLE_THRESHOLD);
+    }
+
+    public GaloisField(int characteristic, int inverseTableThreshold){
         if(!ArithmeticFunctions.isPrime(characteristic) || characteristic < 1){
             throw new InvalidParameterException(
                     String.format(ExceptionMessageConstants.NUMBER_IS_NOT_PRIME,
@@ -28,11 +36,11 @@ public class GaloisField implements Field, Cloneable{
             );
         }
         this.characteristic = characteristic;
-        generateElements();
+        this.inverseTableThreshold = inverseTableThreshold;
     }
 
     public int[] getElements(){
-        return Arrays.copyOf(elements, elements.length);
+        return IntStream.range(0, characteristic).toArray();
     }
 
     public int bringToField(int number){
@@ -101,6 +109,71 @@ public class GaloisField implements Field, Cloneable{
         return FieldOperations.inverseOfMultiplication(this, number);
     }
 
+    public void invertAll(int[] in, int[] out)
+            throws IllegalArgumentException{
+        FieldOperations.inverseOfMultiplication(this, in, out);
+    }
+
+    public void addAll(int[] first, int[] second, int[] out)
+            throws IllegalArgumentException{
+        BulkOperations.addition(this, first, second, out);
+    }
+
+    public void addAll(short[] first, short[] second, short[] out)
+            throws IllegalArgumentException{
+        BulkOperations.addition(this, first, second, out);
+    }
+
+    public void subtractAll(int[] reduced, int[] subtracted, int[] out)
+            throws IllegalArgumentException{
+        BulkOperations.subtraction(this, reduced, subtracted, out);
+    }
+
+    public void multiplyAll(int[] first, int[] second, int[] out)
+            throws IllegalArgumentException{
+        BulkOperations.multiplication(this, first, second, out);
+    }
+
+    public void multiplyAll(short[] first, short[] second, short[] out)
+            throws IllegalArgumentException{
+        BulkOperations.multiplication(this, first, second, out);
+    }
+
+    public void scaleAndAccumulate(int scalar, int[] x, int[] accumulator)
+            throws IllegalArgumentException{
+        BulkOperations.scaleAndAccumulate(this, scalar, x, accumulator);
+    }
+
+    public void scaleAndAccumulate(int scalar, short[] x, short[] accumulator)
+            throws IllegalArgumentException{
+        BulkOperations.scaleAndAccumulate(this, scalar, x, accumulator);
+    }
+
+    public int dot(int[] first, int[] second)
+            throws IllegalArgumentException{
+        return BulkOperations.dot(this, first, second);
+    }
+
+    public int dot(short[] first, short[] second)
+            throws IllegalArgumentException{
+        return BulkOperations.dot(this, first, second);
+    }
+
+    public int evaluate(Polynomial polynomial, int x)
+            throws IllegalArgumentException{
+        return EvaluationOperations.evaluate(this, polynomial, x);
+    }
+
+    public void evaluateAll(Polynomial polynomial, int[] points, int[] out)
+            throws IllegalArgumentException{
+        EvaluationOperations.evaluate(this, polynomial, points, out);
+    }
+
+    public Polynomial interpolate(int[] points, int[] values)
+            throws IllegalArgumentException{
+        return new Interpolator(this, points).interpolate(values);
+    }
+
     public boolean isInField(int number){
         return FieldOperations.isInField(this, number);
     }
@@ -116,8 +189,45 @@ public class GaloisField implements Field, Cloneable{
         return FieldOperations.isIrreducible(this, polynomial);
     }
 
-    private void generateElements(){
-        elements = IntStream.range(0, characteristic).toArray();
+    public boolean isPrimitive(Polynomial polynomial)
+            throws IllegalArgumentException{
+        Optional.ofNullable(polynomial).orElseThrow(() ->
+                new IllegalArgumentException(ExceptionMessageConstants.POLYNOMIAL_IS_NULL));
+        return FieldOperations.isPrimitive(this, polynomial);
+    }
+
+    public Optional<Polynomial> findPrimitivePolynomial(int degree)
+            throws IllegalArgumentException{
+        int maxDegree = PrimitivityOperations.maxSearchDegree(this);
+        if(degree < 1 || degree > maxDegree){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.POLYNOMIAL_DEGREE_IS_NOT_SUPPORTED,
+                            degree, 1, maxDegree));
+        }
+        return PrimitivityOperations.findPrimitive(this, degree).map(Polynomial::new);
+    }
+
+    int[] getInverseTable(){
+        int[] table = inverseTable;
+        if(table == null){
+            synchronized (this){
+                table = inverseTable;
+                if(table == null){
+                    table = FieldOperations.generateInverseTable(this);
+                    inverseTable = table;
+                }
+            }
+        }
+        return table;
+    }
+
+    Optional<SparseReducer> getReducer(Polynomial modulus){
+        Map.Entry<Polynomial, Optional<SparseReducer>> cached = reducer;
+        if(Objects.isNull(cached) || !cached.getKey().equals(modulus)){
+            cached = Map.entry(modulus, SparseReducer.of(this, modulus));
+            reducer = cached;
+        }
+        return cached.getValue();
     }
 
     @Override
@@ -142,9 +252,7 @@ public class GaloisField implements Field, Cloneable{
     @Override
     public GaloisField clone() {
         try {
-            GaloisField clone = (GaloisField) super.clone();
-            clone.elements = getElements();
-            return clone;
+            return (GaloisField) super.clone();
         } catch (CloneNotSupportedException e) {
             throw new AssertionError();
         }
@@ -0,0 +1,24 @@
+package dstu.csae.galois;
+
+public interface IntField extends Field {
+
+    int getCharacteristic();
+
+    int bringToField(int number);
+
+    int add(int first, int second);
+
+    int subtract(int reduced, int subtracted);
+
+    int multiply(int first, int second);
+
+    int divide(int divisible, int divisor);
+
+    int powMod(int number, int degree);
+
+    int inverseOfAddition(int number);
+
+    int inverseOfMultiplication(int number);
+
+    void invertAll(int[] in, int[] out);
+}
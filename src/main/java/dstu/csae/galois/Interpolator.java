@@ -0,0 +1,193 @@
+package dstu.csae.galois;
+
+import dstu.csae.exceptions.ExceptionMessageConstants;
+import dstu.csae.polynomial.Polynomial;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class Interpolator {
+
+    static final int TREE_THRESHOLD = 64;
+
+    @Getter
+    private final IntField field;
+    private final int[] points;
+    private final int[] weights;
+    private final int[][][] tree;
+
+    public Interpolator(IntField field, int[] points)
+            throws IllegalArgumentException{
+        if(Objects.isNull(field)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.FIELD_IS_NULL);
+        }
+        if(Objects.isNull(points)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.ARRAY_IS_NULL);
+        }
+        this.field = field;
+        this.points = new int[points.length];
+        for(int i = 0; i < points.length; i ++){
+            this.points[i] = field.bringToField(points[i]);
+        }
+        this.weights = new int[points.length];
+        if(field instanceof GaloisField galoisField && points.length >= TREE_THRESHOLD){
+            tree = EvaluationOperations.subproductTree(galoisField, this.points, 0, this.points.length);
+            generateTreeWeights(galoisField);
+        }else{
+            tree = null;
+            generateWeights();
+        }
+    }
+
+    public int getSize(){
+        return points.length;
+    }
+
+    public int[] getPoints(){
+        return Arrays.copyOf(points, points.length);
+    }
+
+    public int[] getWeights(){
+        return Arrays.copyOf(weights, weights.length);
+    }
+
+    public Polynomial interpolate(int[] values)
+            throws IllegalArgumentException{
+        int[] scaled = scaledValues(values);
+        if(points.length == 0){
+            return Polynomial.ZERO;
+        }
+        int[] coefficients = Objects.isNull(tree)
+                ? combine(scaled)
+                : combine((GaloisField) field, scaled);
+        return new Polynomial(coefficients);
+    }
+
+    public int evaluate(int[] values, int x)
+            throws IllegalArgumentException{
+        int[] scaled = scaledValues(values);
+        int point = field.bringToField(x);
+        int[] differences = new int[points.length];
+        int product = 1;
+        for(int i = 0; i < points.length; i ++){
+            if(points[i] == point){
+                return field.bringToField(values[i]);
+            }
+            differences[i] = field.subtract(point, points[i]);
+            product = field.multiply(product, differences[i]);
+        }
+        field.invertAll(differences, differences);
+        int sum = 0;
+        for(int i = 0; i < points.length; i ++){
+            sum = field.add(sum, field.multiply(scaled[i], differences[i]));
+        }
+        return field.multiply(product, sum);
+    }
+
+    private int[] scaledValues(int[] values)
+            throws IllegalArgumentException{
+        if(Objects.isNull(values)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.ARRAY_IS_NULL);
+        }
+        if(values.length != points.length){
+            throw new IllegalArgumentException(String.format(
+                    ExceptionMessageConstants.VECTOR_LENGTH_MISMATCH, values.length, points.length));
+        }
+        int[] scaled = new int[values.length];
+        for(int i = 0; i < values.length; i ++){
+            scaled[i] = field.multiply(field.bringToField(values[i]), weights[i]);
+        }
+        return scaled;
+    }
+
+    private void generateWeights(){
+        for(int i = 0; i < points.length; i ++){
+            int product = 1;
+            for(int j = 0; j < points.length; j ++){
+                if(i != j){
+                    product = field.multiply(product, field.subtract(points[i], points[j]));
+                }
+            }
+            checkDistinct(product, i);
+            weights[i] = product;
+        }
+        field.invertAll(weights, weights);
+    }
+
+    private void generateTreeWeights(GaloisField galoisField){
+        int[] root = tree[tree.length - 1][0];
+        long modulus = galoisField.getCharacteristic();
+        int[] derivative = new int[root.length - 1];
+        for(int i = 1; i < root.length; i ++){
+            derivative[i - 1] = (int) (root[i] * (i % modulus) % modulus);
+        }
+        EvaluationOperations.evaluate(galoisField, derivative, tree, weights, 0);
+        for(int i = 0; i < weights.length; i ++){
+            checkDistinct(weights[i], i);
+        }
+        galoisField.invertAll(weights, weights);
+    }
+
+    private void checkDistinct(int product, int index){
+        if(product == 0){
+            throw new IllegalArgumentException(String.format(
+                    ExceptionMessageConstants.POINTS_ARE_NOT_DISTINCT, points[index]));
+        }
+    }
+
+    private int[] combine(int[] scaled){
+        int[] master = new int[points.length + 1];
+        master[0] = 1;
+        for(int i = 0; i < points.length; i ++){
+            int negated = field.inverseOfAddition(points[i]);
+            for(int k = i + 1; k > 0; k --){
+                master[k] = field.add(master[k - 1], field.multiply(master[k], negated));
+            }
+            master[0] = field.multiply(master[0], negated);
+        }
+        int[] coefficients = new int[points.length];
+        int[] quotient = new int[points.length];
+        for(int i = 0; i < points.length; i ++){
+            if(scaled[i] == 0){
+                continue;
+            }
+            quotient[points.length - 1] = master[points.length];
+            for(int k = points.length - 1; k > 0; k --){
+                quotient[k - 1] = field.add(master[k], field.multiply(points[i], quotient[k]));
+            }
+            for(int k = 0; k < points.length; k ++){
+                coefficients[k] = field.add(coefficients[k], field.multiply(scaled[i], quotient[k]));
+            }
+        }
+        return coefficients;
+    }
+
+    private int[] combine(GaloisField galoisField, int[] scaled){
+        int modulus = galoisField.getCharacteristic();
+        int[][] current = new int[scaled.length][];
+        for(int i = 0; i < scaled.length; i ++){
+            current[i] = new int[]{scaled[i]};
+        }
+        for(int level = 0; level < tree.length - 1; level ++){
+            int[][] nodes = tree[level];
+            int[][] next = new int[(current.length + 1) / 2][];
+            for(int i = 0; i < next.length; i ++){
+                if(2 * i + 1 == current.length){
+                    next[i] = current[2 * i];
+                    continue;
+                }
+                int[] left = MultiplicationOperations.multiplication(current[2 * i], nodes[2 * i + 1], modulus);
+                int[] right = MultiplicationOperations.multiplication(current[2 * i + 1], nodes[2 * i], modulus);
+                int[] sum = new int[Math.max(left.length, right.length)];
+                for(int k = 0; k < sum.length; k ++){
+                    long value = (long) (k < left.length ? left[k] : 0) + (k < right.length ? right[k] : 0);
+                    sum[k] = (int) (value >= modulus ? value - modulus : value);
+                }
+                next[i] = sum;
+            }
+            current = next;
+        }
+        return current[0];
+    }
+}
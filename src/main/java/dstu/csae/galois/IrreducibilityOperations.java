@@ -0,0 +1,146 @@
+package dstu.csae.galois;
+
+import java.util.Arrays;
+
+final class IrreducibilityOperations {
+
+    private IrreducibilityOperations(){}
+
+    static boolean isIrreducible(GaloisField galoisField, int[] coefficients){
+        int degree = DivisionOperations.degreeOf(coefficients);
+        if(degree < 1){
+            return false;
+        }
+        if(degree == 1){
+            return true;
+        }
+        int[] modulus = Arrays.copyOf(coefficients, degree + 1);
+        if(modulus[0] == 0){
+            return false;
+        }
+        int characteristic = galoisField.getCharacteristic();
+        int[] reversedInverse = characteristic <= degree ? null : DivisionOperations.seriesInverse(galoisField,
+                DivisionOperations.reverse(modulus, degree + 1), degree);
+        int[] xPower = characteristic <= degree
+                ? shift(galoisField, unit(degree), modulus, degree, characteristic)
+                : power(galoisField, new int[]{0, 1}, characteristic, modulus, reversedInverse);
+        int[] power = xPower;
+        int[][] frobenius = null;
+        for(int i = 1; i <= degree / 2; i ++){
+            if(i > 1){
+                if(frobenius == null){
+                    frobenius = frobeniusMatrix(galoisField, modulus, degree, xPower, reversedInverse);
+                }
+                power = apply(galoisField, power, frobenius);
+            }
+            int[] difference = power.clone();
+            difference[1] = galoisField.subtract(difference[1], 1);
+            if(!isCoprime(galoisField, modulus, difference)){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int[][] frobeniusMatrix(GaloisField galoisField, int[] modulus, int degree,
+                                   int[] xPower, int[] reversedInverse){
+        int characteristic = galoisField.getCharacteristic();
+        int[][] matrix = new int[degree][];
+        matrix[0] = unit(degree);
+        for(int i = 1; i < degree; i ++){
+            matrix[i] = characteristic <= degree
+                    ? shift(galoisField, matrix[i - 1], modulus, degree, characteristic)
+                    : multiplication(galoisField, matrix[i - 1], xPower, modulus, reversedInverse);
+        }
+        return matrix;
+    }
+
+    private static int[] unit(int degree){
+        int[] unit = new int[degree];
+        unit[0] = 1;
+        return unit;
+    }
+
+    private static int[] shift(GaloisField galoisField, int[] polynomial, int[] modulus, int degree, int steps){
+        int[] current = polynomial.clone();
+        for(int step = 0; step < steps; step ++){
+            shift(galoisField, current, modulus, degree);
+        }
+        return current;
+    }
+
+    private static void shift(GaloisField galoisField, int[] current, int[] modulus, int degree){
+        long characteristic = galoisField.getCharacteristic();
+        long top = (long) current[degree - 1] * galoisField.inverseOfMultiplication(modulus[degree]) % characteristic;
+        long negated = top == 0 ? 0 : characteristic - top;
+        for(int i = degree - 1; i > 0; i --){
+            current[i] = (int) ((current[i - 1] + negated * modulus[i]) % characteristic);
+        }
+        current[0] = (int) (negated * modulus[0] % characteristic);
+    }
+
+    static int[] apply(GaloisField galoisField, int[] vector, int[][] matrix){
+        long characteristic = galoisField.getCharacteristic();
+        long square = (characteristic - 1) * (characteristic - 1);
+        long batch = (Long.MAX_VALUE - characteristic) / Math.max(1, square);
+        int size = matrix.length;
+        long[] accumulator = new long[size];
+        long pending = 0;
+        for(int i = 0; i < size; i ++){
+            long factor = vector[i];
+            if(factor == 0){
+                continue;
+            }
+            int[] row = matrix[i];
+            for(int j = 0; j < size; j ++){
+                accumulator[j] += factor * row[j];
+            }
+            if(++ pending == batch){
+                for(int j = 0; j < size; j ++){
+                    accumulator[j] %= characteristic;
+                }
+                pending = 0;
+            }
+        }
+        int[] result = new int[size];
+        for(int j = 0; j < size; j ++){
+            result[j] = (int) (accumulator[j] % characteristic);
+        }
+        return result;
+    }
+
+    private static int[] power(GaloisField galoisField, int[] base, long exponent, int[] modulus,
+                               int[] reversedInverse){
+        int[] result = new int[]{1};
+        base = DivisionOperations.divisionWithRemainder(galoisField, base, modulus)[1];
+        while(exponent > 0){
+            if((exponent & 1) == 1){
+                result = multiplication(galoisField, result, base, modulus, reversedInverse);
+            }
+            exponent >>= 1;
+            if(exponent > 0){
+                base = multiplication(galoisField, base, base, modulus, reversedInverse);
+            }
+        }
+        return result;
+    }
+
+    private static int[] multiplication(GaloisField galoisField, int[] first, int[] second, int[] modulus,
+                                        int[] reversedInverse){
+        int degree = reversedInverse.length;
+        int[] product = MultiplicationOperations.multiplication(first, second, galoisField.getCharacteristic());
+        return Arrays.copyOf(
+                DivisionOperations.remainder(galoisField, product, modulus, degree, reversedInverse), degree);
+    }
+
+    private static boolean isCoprime(GaloisField galoisField, int[] first, int[] second){
+        int[] current = first;
+        int[] next = second;
+        while(DivisionOperations.degreeOf(next) >= 0){
+            int[] remainder = DivisionOperations.divisionWithRemainder(galoisField, current, next)[1];
+            current = next;
+            next = remainder;
+        }
+        return DivisionOperations.degreeOf(current) == 0;
+    }
+}
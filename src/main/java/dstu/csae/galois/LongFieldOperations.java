@@ -0,0 +1,136 @@
+package dstu.csae.galois;
+
+import dstu.csae.exceptions.ExceptionMessageConstants;
+import dstu.csae.exceptions.ReverseElementEvaluationException;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+class LongFieldOperations extends Operations {
+
+    static long addition(LongGaloisField longGaloisField, long first, long second){
+        first = bringToField(longGaloisField, first);
+        second = bringToField(longGaloisField, second);
+        long addition = first - (longGaloisField.getCharacteristic() - second);
+        return addition < 0 ? addition + longGaloisField.getCharacteristic() : addition;
+    }
+
+    static long subtraction(LongGaloisField longGaloisField, long reduced, long subtracted){
+        reduced = bringToField(longGaloisField, reduced);
+        subtracted = bringToField(longGaloisField, subtracted);
+        long subtraction = reduced - subtracted;
+        return subtraction < 0 ? subtraction + longGaloisField.getCharacteristic() : subtraction;
+    }
+
+    static long multiplication(LongGaloisField longGaloisField, long first, long second){
+        first = bringToField(longGaloisField, first);
+        second = bringToField(longGaloisField, second);
+        if(longGaloisField.getCharacteristic() == 2){
+            return first & second;
+        }
+        long montgomery = reduce(longGaloisField, Math.multiplyHigh(first, second), first * second);
+        long square = longGaloisField.montgomerySquare;
+        return reduce(longGaloisField, Math.multiplyHigh(montgomery, square), montgomery * square);
+    }
+
+    static long division(LongGaloisField longGaloisField, long divisible, long divisor)
+            throws ArithmeticException{
+        if(bringToField(longGaloisField, divisor) == 0){
+            throw new ArithmeticException(
+                    String.format(ExceptionMessageConstants.NUMBER_DIVIDE_BY_ZERO, divisible));
+        }
+        return multiplication(longGaloisField, divisible, inverseOfMultiplication(longGaloisField, divisor));
+    }
+
+    static long powMod(LongGaloisField longGaloisField, long number, long degree){
+        number = bringToField(longGaloisField, number);
+        if(number == 0 || number == 1){
+            return degree == 0 ? 1 : number;
+        }
+        if(degree < 0){
+            number = inverseOfMultiplication(longGaloisField, number);
+            degree = -degree;
+        }
+        if(longGaloisField.getCharacteristic() == 2){
+            return number;
+        }
+        long square = toMontgomery(longGaloisField, number);
+        long multiplier = toMontgomery(longGaloisField, 1);
+        while(degree != 0){
+            if((degree & 1) == 1){
+                multiplier = reduce(longGaloisField, Math.multiplyHigh(multiplier, square), multiplier * square);
+            }
+            degree >>>= 1;
+            if(degree != 0){
+                square = reduce(longGaloisField, Math.multiplyHigh(square, square), square * square);
+            }
+        }
+        return reduce(longGaloisField, 0, multiplier);
+    }
+
+    static long inverseOfAddition(LongGaloisField longGaloisField, long number){
+        number = bringToField(longGaloisField, number);
+        return number == 0 ? 0 : longGaloisField.getCharacteristic() - number;
+    }
+
+    static long inverseOfMultiplication(LongGaloisField longGaloisField, long number)
+            throws ReverseElementEvaluationException{
+        number = bringToField(longGaloisField, number);
+        if(number == 0){
+            throw new ReverseElementEvaluationException(
+                    String.format(ExceptionMessageConstants.REVERSE_ELEMENT_DOES_NOT_EXIST, number));
+        }
+        return powMod(longGaloisField, number, longGaloisField.getCharacteristic() - 2);
+    }
+
+    static void inverseOfMultiplication(LongGaloisField longGaloisField, long[] in, long[] out)
+            throws IllegalArgumentException{
+        batchInverse(in, out, number -> bringToField(longGaloisField, number),
+                (first, second) -> multiplication(longGaloisField, first, second),
+                number -> inverseOfMultiplication(longGaloisField, number));
+    }
+
+    static long bringToField(LongGaloisField longGaloisField, long number){
+        if(isInField(longGaloisField, number)){
+            return number;
+        }
+        return Math.floorMod(number, longGaloisField.getCharacteristic());
+    }
+
+    static long bringToField(LongGaloisField longGaloisField, BigInteger number){
+        if(Objects.isNull(number)){
+            return 0;
+        }
+        return number.mod(BigInteger.valueOf(longGaloisField.getCharacteristic())).longValue();
+    }
+
+    static boolean isInField(LongGaloisField longGaloisField, long number){
+        return number >= 0 && number < longGaloisField.getCharacteristic();
+    }
+
+    static long inverseModulo(long characteristic){
+        long inverse = characteristic;
+        for(int i = 0; i < 5; i ++){
+            inverse *= 2 - characteristic * inverse;
+        }
+        return inverse;
+    }
+
+    static long montgomerySquare(long characteristic){
+        return BigInteger.ONE.shiftLeft(2 * Long.SIZE)
+                .mod(BigInteger.valueOf(characteristic))
+                .longValue();
+    }
+
+    private static long toMontgomery(LongGaloisField longGaloisField, long number){
+        long square = longGaloisField.montgomerySquare;
+        return reduce(longGaloisField, Math.multiplyHigh(number, square), number * square);
+    }
+
+    private static long reduce(LongGaloisField longGaloisField, long high, long low){
+        long characteristic = longGaloisField.getCharacteristic();
+        long quotient = low * longGaloisField.inverseModulo;
+        long reduced = high - Math.unsignedMultiplyHigh(quotient, characteristic);
+        return reduced < 0 ? reduced + characteristic : reduced;
+    }
+}
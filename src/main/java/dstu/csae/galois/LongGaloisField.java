@@ -0,0 +1,96 @@
+package dstu.csae.galois;
+
+import dstu.csae.exceptions.ExceptionMessageConstants;
+import dstu.csae.exceptions.ReverseElementEvaluationException;
+import dstu.csae.math.ArithmeticFunctions;
+import lombok.Getter;
+
+import java.math.BigInteger;
+import java.security.InvalidParameterException;
+
+public class LongGaloisField implements Field {
+
+    @Getter private final long characteristic;
+    final long inverseModulo;
+    final long montgomerySquare;
+    public static final long ADDITION_NEUTRAL_ELEMENT = 0;
+    public static final long MULTIPLICATION_NEUTRAL_ELEMENT = 1;
+
+    public LongGaloisField(long characteristic){
+        if(!ArithmeticFunctions.isPrime(characteristic)){
+            throw new InvalidParameterException(
+                    String.format(ExceptionMessageConstants.NUMBER_IS_NOT_PRIME,
+                            characteristic)
+            );
+        }
+        this.characteristic = characteristic;
+        this.inverseModulo = LongFieldOperations.inverseModulo(characteristic);
+        this.montgomerySquare = LongFieldOperations.montgomerySquare(characteristic);
+    }
+
+    public long bringToField(long number){
+        return LongFieldOperations.bringToField(this, number);
+    }
+
+    public long bringToField(BigInteger number){
+        return LongFieldOperations.bringToField(this, number);
+    }
+
+    public long add(long first, long second){
+        return LongFieldOperations.addition(this, first, second);
+    }
+
+    public long subtract(long reduced, long subtracted){
+        return LongFieldOperations.subtraction(this, reduced, subtracted);
+    }
+
+    public long multiply(long first, long second){
+        return LongFieldOperations.multiplication(this, first, second);
+    }
+
+    public long divide(long divisible, long divisor)
+            throws ArithmeticException{
+        return LongFieldOperations.division(this, divisible, divisor);
+    }
+
+    public long powMod(long number, long degree){
+        return LongFieldOperations.powMod(this, number, degree);
+    }
+
+    public long inverseOfAddition(long number){
+        return LongFieldOperations.inverseOfAddition(this, number);
+    }
+
+    public long inverseOfMultiplication(long number)
+            throws ReverseElementEvaluationException {
+        return LongFieldOperations.inverseOfMultiplication(this, number);
+    }
+
+    public void invertAll(long[] in, long[] out)
+            throws IllegalArgumentException{
+        LongFieldOperations.inverseOfMultiplication(this, in, out);
+    }
+
+    public boolean isInField(long number){
+        return LongFieldOperations.isInField(this, number);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LongGaloisField longGaloisField = (LongGaloisField) o;
+        return characteristic == longGaloisField.characteristic;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(characteristic);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GF(%d)",
+                characteristic);
+    }
+}
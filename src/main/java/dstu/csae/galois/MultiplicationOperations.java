@@ -0,0 +1,263 @@
+package dstu.csae.galois;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class MultiplicationOperations {
+
+    static final int KARATSUBA_THRESHOLD = 32;
+    static final int NTT_THRESHOLD = 64;
+    static final int CRT_THRESHOLD = 256;
+    private static final int SMALL_MODULUS = 1 << 16;
+    private static final int FIRST_PRIME = 998244353;
+    private static final int SECOND_PRIME = 167772161;
+    private static final int THIRD_PRIME = 469762049;
+    private static final int PRIMES_ROOT = 3;
+    private static final int MAX_CRT_LENGTH = 1 << 23;
+    private static final long FIRST_INVERSE = powMod(FIRST_PRIME % SECOND_PRIME, SECOND_PRIME - 2, SECOND_PRIME);
+    private static final long PAIR_INVERSE = powMod(
+            (long) FIRST_PRIME * SECOND_PRIME % THIRD_PRIME, THIRD_PRIME - 2, THIRD_PRIME);
+    private static final Map<Integer, Integer> PRIMITIVE_ROOTS = new ConcurrentHashMap<>();
+
+    private MultiplicationOperations(){}
+
+    static int[] multiplication(int[] first, int[] second){
+        int[] result = new int[first.length + second.length - 1];
+        karatsuba(first, 0, first.length, second, 0, second.length, result, 0, 0);
+        return result;
+    }
+
+    static int[] multiplication(int[] first, int[] second, int modulus){
+        int length = first.length + second.length - 1;
+        int shortest = Math.min(first.length, second.length);
+        if(shortest >= NTT_THRESHOLD){
+            int size = Integer.highestOneBit(Math.max(1, length - 1)) << 1;
+            if((modulus - 1) % size == 0){
+                return ntt(first, second, modulus, primitiveRoot(modulus), length);
+            }
+            int crtThreshold = modulus > SMALL_MODULUS ? CRT_THRESHOLD : 4 * CRT_THRESHOLD;
+            if(shortest >= crtThreshold && length <= MAX_CRT_LENGTH){
+                return crt(first, second, modulus, length);
+            }
+        }
+        int[] result = new int[length];
+        karatsuba(first, 0, first.length, second, 0, second.length, result, 0, modulus);
+        return result;
+    }
+
+    private static void karatsuba(int[] first, int firstOffset, int firstLength,
+                                  int[] second, int secondOffset, int secondLength,
+                                  int[] out, int outOffset, int modulus){
+        if(firstLength < secondLength){
+            karatsuba(second, secondOffset, secondLength, first, firstOffset, firstLength, out, outOffset, modulus);
+            return;
+        }
+        if(secondLength < KARATSUBA_THRESHOLD){
+            schoolbook(first, firstOffset, firstLength, second, secondOffset, secondLength, out, outOffset, modulus);
+            return;
+        }
+        int half = (firstLength + 1) / 2;
+        if(secondLength <= half){
+            for(int start = 0; start < firstLength; start += secondLength){
+                karatsuba(first, firstOffset + start, Math.min(secondLength, firstLength - start),
+                        second, secondOffset, secondLength, out, outOffset + start, modulus);
+            }
+            return;
+        }
+        int highFirst = firstLength - half;
+        int highSecond = secondLength - half;
+        int[] low = new int[2 * half - 1];
+        int[] high = new int[highFirst + highSecond - 1];
+        karatsuba(first, firstOffset, half, second, secondOffset, half, low, 0, modulus);
+        karatsuba(first, firstOffset + half, highFirst, second, secondOffset + half, highSecond, high, 0, modulus);
+        int[] firstSum = new int[half];
+        int[] secondSum = new int[half];
+        for(int i = 0; i < half; i ++){
+            firstSum[i] = i < highFirst
+                    ? add(first[firstOffset + i], first[firstOffset + half + i], modulus)
+                    : first[firstOffset + i];
+            secondSum[i] = i < highSecond
+                    ? add(second[secondOffset + i], second[secondOffset + half + i], modulus)
+                    : second[secondOffset + i];
+        }
+        int[] middle = new int[2 * half - 1];
+        karatsuba(firstSum, 0, half, secondSum, 0, half, middle, 0, modulus);
+        for(int i = 0; i < low.length; i ++){
+            middle[i] = subtract(middle[i], low[i], modulus);
+            out[outOffset + i] = add(out[outOffset + i], low[i], modulus);
+        }
+        for(int i = 0; i < high.length; i ++){
+            middle[i] = subtract(middle[i], high[i], modulus);
+            out[outOffset + 2 * half + i] = add(out[outOffset + 2 * half + i], high[i], modulus);
+        }
+        for(int i = 0; i < middle.length; i ++){
+            out[outOffset + half + i] = add(out[outOffset + half + i], middle[i], modulus);
+        }
+    }
+
+    private static void schoolbook(int[] first, int firstOffset, int firstLength,
+                                   int[] second, int secondOffset, int secondLength,
+                                   int[] out, int outOffset, int modulus){
+        if(modulus == 0){
+            for(int i = 0; i < firstLength; i ++){
+                for(int j = 0; j < secondLength; j ++){
+                    out[outOffset + i + j] += first[firstOffset + i] * second[secondOffset + j];
+                }
+            }
+            return;
+        }
+        long square = (long) (modulus - 1) * (modulus - 1);
+        long batch = square == 0 ? Long.MAX_VALUE : (Long.MAX_VALUE - modulus) / square;
+        long[] accumulator = new long[firstLength + secondLength - 1];
+        long pending = 0;
+        for(int i = 0; i < firstLength; i ++){
+            long factor = first[firstOffset + i];
+            for(int j = 0; j < secondLength; j ++){
+                accumulator[i + j] += factor * second[secondOffset + j];
+            }
+            if(++ pending == batch){
+                for(int k = 0; k < accumulator.length; k ++){
+                    accumulator[k] %= modulus;
+                }
+                pending = 0;
+            }
+        }
+        for(int k = 0; k < accumulator.length; k ++){
+            out[outOffset + k] = add(out[outOffset + k], (int) (accumulator[k] % modulus), modulus);
+        }
+    }
+
+    private static int[] ntt(int[] first, int[] second, int modulus, int root, int length){
+        int size = Integer.highestOneBit(Math.max(1, length - 1)) << 1;
+        long[] firstTransform = new long[size];
+        long[] secondTransform = new long[size];
+        for(int i = 0; i < first.length; i ++){
+            firstTransform[i] = first[i] % modulus;
+        }
+        for(int i = 0; i < second.length; i ++){
+            secondTransform[i] = second[i] % modulus;
+        }
+        transform(firstTransform, modulus, root, false);
+        transform(secondTransform, modulus, root, false);
+        for(int i = 0; i < size; i ++){
+            firstTransform[i] = firstTransform[i] * secondTransform[i] % modulus;
+        }
+        transform(firstTransform, modulus, root, true);
+        int[] result = new int[length];
+        for(int i = 0; i < length; i ++){
+            result[i] = (int) firstTransform[i];
+        }
+        return result;
+    }
+
+    private static int[] crt(int[] first, int[] second, int modulus, int length){
+        int[] firstResidues = ntt(first, second, FIRST_PRIME, PRIMES_ROOT, length);
+        int[] secondResidues = ntt(first, second, SECOND_PRIME, PRIMES_ROOT, length);
+        int[] thirdResidues = ntt(first, second, THIRD_PRIME, PRIMES_ROOT, length);
+        long pairModulo = (long) FIRST_PRIME * SECOND_PRIME % modulus;
+        long firstModulo = FIRST_PRIME % modulus;
+        int[] result = new int[length];
+        for(int i = 0; i < length; i ++){
+            long r1 = firstResidues[i];
+            long t1 = Math.floorMod(secondResidues[i] - r1, SECOND_PRIME) * FIRST_INVERSE % SECOND_PRIME;
+            long pair = r1 + FIRST_PRIME * t1;
+            long t2 = Math.floorMod(thirdResidues[i] - pair % THIRD_PRIME, THIRD_PRIME) * PAIR_INVERSE % THIRD_PRIME;
+            result[i] = (int) ((r1 % modulus + firstModulo * t1 % modulus + pairModulo * t2 % modulus) % modulus);
+        }
+        return result;
+    }
+
+    private static void transform(long[] values, int modulus, int root, boolean inverse){
+        int size = values.length;
+        for(int i = 1, j = 0; i < size; i ++){
+            int bit = size >> 1;
+            for(; (j & bit) != 0; bit >>= 1){
+                j ^= bit;
+            }
+            j ^= bit;
+            if(i < j){
+                long swap = values[i];
+                values[i] = values[j];
+                values[j] = swap;
+            }
+        }
+        for(int length = 2; length <= size; length <<= 1){
+            long step = powMod(root, (modulus - 1) / length, modulus);
+            if(inverse){
+                step = powMod(step, modulus - 2, modulus);
+            }
+            int half = length >> 1;
+            long[] twiddles = new long[half];
+            twiddles[0] = 1;
+            for(int k = 1; k < half; k ++){
+                twiddles[k] = twiddles[k - 1] * step % modulus;
+            }
+            for(int start = 0; start < size; start += length){
+                for(int k = 0; k < half; k ++){
+                    long even = values[start + k];
+                    long odd = values[start + k + half] * twiddles[k] % modulus;
+                    values[start + k] = even + odd >= modulus ? even + odd - modulus : even + odd;
+                    values[start + k + half] = even - odd < 0 ? even - odd + modulus : even - odd;
+                }
+            }
+        }
+        if(inverse){
+            long scale = powMod(size, modulus - 2, modulus);
+            for(int i = 0; i < size; i ++){
+                values[i] = values[i] * scale % modulus;
+            }
+        }
+    }
+
+    private static int primitiveRoot(int modulus){
+        return PRIMITIVE_ROOTS.computeIfAbsent(modulus, p -> {
+            int order = p - 1;
+            int[] factors = new int[Integer.SIZE];
+            int count = 0;
+            int rest = order;
+            for(int d = 2; (long) d * d <= rest; d ++){
+                if(rest % d == 0){
+                    factors[count ++] = d;
+                    while(rest % d == 0){
+                        rest /= d;
+                    }
+                }
+            }
+            if(rest > 1){
+                factors[count ++] = rest;
+            }
+            for(int candidate = 2; ; candidate ++){
+                boolean isPrimitive = true;
+                for(int i = 0; i < count && isPrimitive; i ++){
+                    isPrimitive = powMod(candidate, order / factors[i], p) != 1;
+                }
+                if(isPrimitive){
+                    return candidate;
+                }
+            }
+        });
+    }
+
+    private static long powMod(long base, long exponent, long modulus){
+        long result = 1;
+        base %= modulus;
+        while(exponent > 0){
+            if((exponent & 1) == 1){
+                result = result * base % modulus;
+            }
+            base = base * base % modulus;
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    private static int add(int first, int second, int modulus){
+        int sum = first + second;
+        return modulus != 0 && (sum < 0 || sum >= modulus) ? sum - modulus : sum;
+    }
+
+    private static int subtract(int reduced, int subtracted, int modulus){
+        int difference = reduced - subtracted;
+        return modulus != 0 && difference < 0 ? difference + modulus : difference;
+    }
+}
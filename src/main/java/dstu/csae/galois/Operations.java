@@ -1,5 +1,13 @@
 package dstu.csae.galois;
 
+import dstu.csae.exceptions.ExceptionMessageConstants;
+
+import java.util.Objects;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
 public abstract class Operations {
 
     protected static  int[] addition(int[] first, int[] second){
@@ -11,10 +19,10 @@ public abstract class Operations {
             addition[i] += second[i];
         }
         for(int i = minLength; i < maxLength; i ++){
-            if(i < first.length - 1){
+            if(i < first.length){
                 addition[i] += first[i];
             }
-            if(i < second.length - 1){
+            if(i < second.length){
                 addition[i] += second[i];
             }
         }
@@ -30,10 +38,10 @@ public abstract class Operations {
             subtraction[i] -= subtracted[i];
         }
         for(int i = minLength; i < maxLength; i ++){
-            if(i < reduced.length - 1){
+            if(i < reduced.length){
                 subtraction[i] += reduced[i];
             }
-            if(i < subtracted.length - 1){
+            if(i < subtracted.length){
                 subtraction[i] -= subtracted[i];
             }
         }
@@ -41,13 +49,11 @@ public abstract class Operations {
     }
 
     protected static int[] multiplication(int[] first, int[] second){
-        int[] multiplication = new int[first.length + second.length - 1];
-        for(int i = 0; i < first.length; i ++){
-            for(int j = 0; j < second.length; j ++){
-                multiplication[i + j] += first[i] * second[j];
-            }
-        }
-        return multiplication;
+        return MultiplicationOperations.multiplication(first, second);
+    }
+
+    protected static int[] multiplication(int[] first, int[] second, int modulus){
+        return MultiplicationOperations.multiplication(first, second, modulus);
     }
 
     protected static int[] division(int[] divisible,int[] divisor){
@@ -65,4 +71,66 @@ public abstract class Operations {
         return division;
     }
 
+    protected static void batchInverse(int[] in, int[] out, IntUnaryOperator bringToField,
+                                       IntBinaryOperator multiplication, IntUnaryOperator inverseOfMultiplication)
+            throws IllegalArgumentException{
+        if(Objects.isNull(in) || Objects.isNull(out)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.ARRAY_IS_NULL);
+        }
+        if(out.length < in.length){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.ARRAY_LENGTH_MISMATCH, out.length, in.length));
+        }
+        int[] prefix = new int[in.length];
+        int accumulator = 1;
+        for(int i = 0; i < in.length; i ++){
+            prefix[i] = accumulator;
+            int number = bringToField.applyAsInt(in[i]);
+            if(number != 0){
+                accumulator = multiplication.applyAsInt(accumulator, number);
+            }
+        }
+        int inverse = inverseOfMultiplication.applyAsInt(accumulator);
+        for(int i = in.length - 1; i >= 0; i --){
+            int number = bringToField.applyAsInt(in[i]);
+            if(number == 0){
+                out[i] = 0;
+                continue;
+            }
+            out[i] = multiplication.applyAsInt(inverse, prefix[i]);
+            inverse = multiplication.applyAsInt(inverse, number);
+        }
+    }
+
+    protected static void batchInverse(long[] in, long[] out, LongUnaryOperator bringToField,
+                                       LongBinaryOperator multiplication, LongUnaryOperator inverseOfMultiplication)
+            throws IllegalArgumentException{
+        if(Objects.isNull(in) || Objects.isNull(out)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.ARRAY_IS_NULL);
+        }
+        if(out.length < in.length){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.ARRAY_LENGTH_MISMATCH, out.length, in.length));
+        }
+        long[] prefix = new long[in.length];
+        long accumulator = 1;
+        for(int i = 0; i < in.length; i ++){
+            prefix[i] = accumulator;
+            long number = bringToField.applyAsLong(in[i]);
+            if(number != 0){
+                accumulator = multiplication.applyAsLong(accumulator, number);
+            }
+        }
+        long inverse = inverseOfMultiplication.applyAsLong(accumulator);
+        for(int i = in.length - 1; i >= 0; i --){
+            long number = bringToField.applyAsLong(in[i]);
+            if(number == 0){
+                out[i] = 0;
+                continue;
+            }
+            out[i] = multiplication.applyAsLong(inverse, prefix[i]);
+            inverse = multiplication.applyAsLong(inverse, number);
+        }
+    }
+
 }
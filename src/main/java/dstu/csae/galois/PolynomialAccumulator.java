@@ -0,0 +1,191 @@
+package dstu.csae.galois;
+
+import dstu.csae.exceptions.ExceptionMessageConstants;
+import dstu.csae.polynomial.Polynomial;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class PolynomialAccumulator {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    @Getter
+    private final GaloisField galoisField;
+    private int[] coefficients;
+    private int length;
+
+    public PolynomialAccumulator(GaloisField galoisField)
+            throws IllegalArgumentException{
+        this(galoisField, DEFAULT_CAPACITY);
+    }
+
+    public PolynomialAccumulator(GaloisField galoisField, int capacity)
+            throws IllegalArgumentException{
+        if(Objects.isNull(galoisField)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.FIELD_IS_NULL);
+        }
+        this.galoisField = galoisField;
+        this.coefficients = new int[Math.max(1, capacity)];
+    }
+
+    public int getCapacity(){
+        return coefficients.length;
+    }
+
+    public int getDegree(){
+        trim();
+        return Math.max(0, length - 1);
+    }
+
+    public boolean isZero(){
+        trim();
+        return length == 0;
+    }
+
+    public int get(int degree){
+        return degree >= 0 && degree < length ? coefficients[degree] : 0;
+    }
+
+    public PolynomialAccumulator clear(){
+        Arrays.fill(coefficients, 0, length, 0);
+        length = 0;
+        return this;
+    }
+
+    public PolynomialAccumulator set(Polynomial polynomial)
+            throws IllegalArgumentException{
+        return clear().addTo(polynomial);
+    }
+
+    public PolynomialAccumulator addTo(Polynomial addend)
+            throws IllegalArgumentException{
+        return mulAdd(1, addend, 0);
+    }
+
+    public PolynomialAccumulator subtractFrom(Polynomial subtracted)
+            throws IllegalArgumentException{
+        return mulAdd(galoisField.getCharacteristic() - 1, subtracted, 0);
+    }
+
+    public PolynomialAccumulator mulAdd(int scalar, Polynomial polynomial)
+            throws IllegalArgumentException{
+        return mulAdd(scalar, polynomial, 0);
+    }
+
+    public PolynomialAccumulator mulAdd(int scalar, Polynomial polynomial, int shift)
+            throws IllegalArgumentException{
+        int size = lengthOf(polynomial);
+        long factor = galoisField.bringToField(scalar);
+        if(factor == 0){
+            return this;
+        }
+        shift = Math.max(0, shift);
+        ensureCapacity(size + shift);
+        long characteristic = galoisField.getCharacteristic();
+        for(int i = 0; i < size; i ++){
+            int coefficient = galoisField.bringToField(polynomial.get(i));
+            if(coefficient != 0){
+                int index = i + shift;
+                coefficients[index] = (int) ((coefficients[index] + factor * coefficient) % characteristic);
+            }
+        }
+        length = Math.max(length, size + shift);
+        return this;
+    }
+
+    public PolynomialAccumulator mulAdd(Polynomial first, Polynomial second)
+            throws IllegalArgumentException{
+        int firstSize = lengthOf(first);
+        int secondSize = lengthOf(second);
+        ensureCapacity(firstSize + secondSize - 1);
+        long characteristic = galoisField.getCharacteristic();
+        for(int i = 0; i < firstSize; i ++){
+            long factor = galoisField.bringToField(first.get(i));
+            if(factor == 0){
+                continue;
+            }
+            for(int j = 0; j < secondSize; j ++){
+                int coefficient = galoisField.bringToField(second.get(j));
+                if(coefficient != 0){
+                    coefficients[i + j] = (int) ((coefficients[i + j] + factor * coefficient) % characteristic);
+                }
+            }
+        }
+        length = Math.max(length, firstSize + secondSize - 1);
+        return this;
+    }
+
+    public PolynomialAccumulator scale(int scalar){
+        long factor = galoisField.bringToField(scalar);
+        if(factor == 0){
+            return clear();
+        }
+        long characteristic = galoisField.getCharacteristic();
+        for(int i = 0; i < length; i ++){
+            coefficients[i] = (int) (coefficients[i] * factor % characteristic);
+        }
+        return this;
+    }
+
+    public PolynomialAccumulator reduceMod(Polynomial modulus)
+            throws IllegalArgumentException{
+        int degree = lengthOf(modulus) - 1;
+        while(degree >= 0 && galoisField.bringToField(modulus.get(degree)) == 0){
+            degree --;
+        }
+        if(degree < 0){
+            throw new IllegalArgumentException(ExceptionMessageConstants.DIVIDE_BY_ZERO);
+        }
+        trim();
+        long characteristic = galoisField.getCharacteristic();
+        long leadInverse = galoisField.inverseOfMultiplication(galoisField.bringToField(modulus.get(degree)));
+        for(int top = length - 1; top >= degree; top --){
+            if(coefficients[top] == 0){
+                continue;
+            }
+            long factor = characteristic - coefficients[top] * leadInverse % characteristic;
+            int offset = top - degree;
+            for(int i = 0; i < degree; i ++){
+                int coefficient = galoisField.bringToField(modulus.get(i));
+                if(coefficient != 0){
+                    coefficients[offset + i] = (int) ((coefficients[offset + i] + factor * coefficient) % characteristic);
+                }
+            }
+            coefficients[top] = 0;
+        }
+        length = Math.min(length, degree);
+        trim();
+        return this;
+    }
+
+    public Polynomial toPolynomial(){
+        trim();
+        return new Polynomial(Arrays.copyOf(coefficients, Math.max(1, length)));
+    }
+
+    private void ensureCapacity(int required){
+        if(coefficients.length < required){
+            coefficients = Arrays.copyOf(coefficients, Math.max(required, 2 * coefficients.length));
+        }
+    }
+
+    private void trim(){
+        while(length > 0 && coefficients[length - 1] == 0){
+            length --;
+        }
+    }
+
+    private static int lengthOf(Polynomial polynomial)
+            throws IllegalArgumentException{
+        if(Objects.isNull(polynomial)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.POLYNOMIAL_IS_NULL);
+        }
+        int length = 0;
+        while(polynomial.isInBounds(length)){
+            length ++;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,87 @@
+package dstu.csae.galois;
+
+import dstu.csae.math.ArithmeticFunctions;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+final class PrimitivityOperations {
+
+    private PrimitivityOperations(){}
+
+    static boolean isPrimitive(GaloisField galoisField, int[] coefficients){
+        int degree = DivisionOperations.degreeOf(coefficients);
+        if(degree < 1 || coefficients[0] == 0){
+            return false;
+        }
+        BigInteger order = BigInteger.valueOf(galoisField.getCharacteristic()).pow(degree).subtract(BigInteger.ONE);
+        return isPrimitive(galoisField, Arrays.copyOf(coefficients, degree + 1), order,
+                ArithmeticFunctions.getPrimeDivisors(order));
+    }
+
+    static Optional<int[]> findPrimitive(GaloisField galoisField, int degree){
+        long characteristic = galoisField.getCharacteristic();
+        long candidates = BigInteger.valueOf(characteristic).pow(degree).longValueExact();
+        BigInteger order = BigInteger.valueOf(characteristic).pow(degree).subtract(BigInteger.ONE);
+        List<BigInteger> divisors = ArithmeticFunctions.getPrimeDivisors(order);
+        return LongStream.range(0, candidates)
+                .parallel()
+                .mapToObj(index -> candidate(index, characteristic, degree))
+                .filter(candidate -> candidate[0] != 0)
+                .filter(candidate -> isPrimitive(galoisField, candidate, order, divisors))
+                .findFirst();
+    }
+
+    static int maxSearchDegree(GaloisField galoisField){
+        long characteristic = galoisField.getCharacteristic();
+        int degree = 0;
+        for(long power = characteristic; power <= Long.MAX_VALUE / characteristic; power *= characteristic){
+            degree ++;
+        }
+        return degree + 1;
+    }
+
+    private static boolean isPrimitive(GaloisField galoisField, int[] modulus, BigInteger order,
+                                       List<BigInteger> divisors){
+        if(!IrreducibilityOperations.isIrreducible(galoisField, modulus)){
+            return false;
+        }
+        for(BigInteger divisor : divisors){
+            int[] power = power(galoisField, modulus, order.divide(divisor));
+            if(DivisionOperations.degreeOf(power) == 0 && power[0] == 1){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] candidate(long index, long characteristic, int degree){
+        int[] candidate = new int[degree + 1];
+        for(int i = 0; i < degree; i ++){
+            candidate[i] = (int) (index % characteristic);
+            index /= characteristic;
+        }
+        candidate[degree] = 1;
+        return candidate;
+    }
+
+    private static int[] power(GaloisField galoisField, int[] modulus, BigInteger exponent){
+        int[] result = new int[]{1};
+        int[] base = DivisionOperations.divisionWithRemainder(galoisField, new int[]{0, 1}, modulus)[1];
+        for(int bit = exponent.bitLength() - 1; bit >= 0; bit --){
+            result = multiplication(galoisField, result, result, modulus);
+            if(exponent.testBit(bit)){
+                result = multiplication(galoisField, result, base, modulus);
+            }
+        }
+        return result;
+    }
+
+    private static int[] multiplication(GaloisField galoisField, int[] first, int[] second, int[] modulus){
+        int[] product = MultiplicationOperations.multiplication(first, second, galoisField.getCharacteristic());
+        return DivisionOperations.divisionWithRemainder(galoisField, product, modulus)[1];
+    }
+}
@@ -0,0 +1,128 @@
+package dstu.csae.galois;
+
+import dstu.csae.exceptions.ExceptionMessageConstants;
+import dstu.csae.polynomial.Polynomial;
+import dstu.csae.polynomial.SparsePolynomial;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+public final class SparseReducer {
+
+    public static final int MAX_WEIGHT = 8;
+
+    @Getter
+    private final GaloisField galoisField;
+    @Getter
+    private final SparsePolynomial modulus;
+    @Getter
+    private final int degree;
+    private final int[] exponents;
+    private final long[] factors;
+
+    public SparseReducer(GaloisField galoisField, SparsePolynomial modulus)
+            throws IllegalArgumentException{
+        if(Objects.isNull(galoisField)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.FIELD_IS_NULL);
+        }
+        if(Objects.isNull(modulus)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.POLYNOMIAL_IS_NULL);
+        }
+        int[] exponents = modulus.getExponents();
+        int[] coefficients = modulus.getCoefficients();
+        for(int i = 0; i < coefficients.length; i ++){
+            coefficients[i] = galoisField.bringToField(coefficients[i]);
+        }
+        SparsePolynomial reduced = new SparsePolynomial(exponents, coefficients);
+        if(reduced.getWeight() == 0){
+            throw new IllegalArgumentException(ExceptionMessageConstants.DIVIDE_BY_ZERO);
+        }
+        int terms = reduced.getWeight() - 1;
+        long characteristic = galoisField.getCharacteristic();
+        long leadInverse = galoisField.inverseOfMultiplication(reduced.getCoefficient(terms));
+        this.galoisField = galoisField;
+        this.modulus = reduced;
+        this.degree = reduced.getDegree();
+        this.exponents = new int[terms];
+        this.factors = new long[terms];
+        for(int i = 0; i < terms; i ++){
+            this.exponents[i] = reduced.getExponent(i);
+            this.factors[i] = characteristic - reduced.getCoefficient(i) * leadInverse % characteristic;
+        }
+    }
+
+    public static boolean isSparse(SparsePolynomial modulus){
+        if(Objects.isNull(modulus) || modulus.getWeight() > MAX_WEIGHT || modulus.getDegree() < 2){
+            return false;
+        }
+        int weight = modulus.getWeight();
+        return weight == 1 || 2 * modulus.getExponent(weight - 2) <= modulus.getDegree();
+    }
+
+    public static Optional<SparseReducer> of(GaloisField galoisField, Polynomial modulus){
+        if(Objects.isNull(galoisField) || Objects.isNull(modulus)){
+            return Optional.empty();
+        }
+        int weight = 0;
+        for(int i = 0; modulus.isInBounds(i); i ++){
+            if(galoisField.bringToField(modulus.get(i)) != 0 && ++ weight > MAX_WEIGHT){
+                return Optional.empty();
+            }
+        }
+        int[] coefficients = modulus.getCoefficients();
+        for(int i = 0; i < coefficients.length; i ++){
+            coefficients[i] = galoisField.bringToField(coefficients[i]);
+        }
+        SparsePolynomial sparse = new SparsePolynomial(new Polynomial(coefficients));
+        return isSparse(sparse) ? Optional.of(new SparseReducer(galoisField, sparse)) : Optional.empty();
+    }
+
+    public int reduce(int[] coefficients, int length){
+        length = Math.min(length, coefficients.length);
+        int characteristic = galoisField.getCharacteristic();
+        for(int i = 0; i < length; i ++){
+            if(coefficients[i] < 0 || coefficients[i] >= characteristic){
+                coefficients[i] = galoisField.bringToField(coefficients[i]);
+            }
+        }
+        int top = exponents.length == 0 ? 0 : exponents[exponents.length - 1];
+        int[] high = null;
+        while(length > degree){
+            int count = length - degree;
+            if(Objects.isNull(high)){
+                high = new int[count];
+            }
+            System.arraycopy(coefficients, degree, high, 0, count);
+            Arrays.fill(coefficients, degree, length, 0);
+            for(int k = 0; k < exponents.length; k ++){
+                int offset = exponents[k];
+                if(characteristic == 2){
+                    for(int i = 0; i < count; i ++){
+                        coefficients[offset + i] ^= high[i];
+                    }
+                    continue;
+                }
+                long factor = factors[k];
+                for(int i = 0; i < count; i ++){
+                    if(high[i] != 0){
+                        coefficients[offset + i] = (int) ((coefficients[offset + i] + factor * high[i]) % characteristic);
+                    }
+                }
+            }
+            length = Math.max(degree, exponents.length == 0 ? 0 : top + count);
+        }
+        return length;
+    }
+
+    public Polynomial reduce(Polynomial polynomial)
+            throws IllegalArgumentException{
+        if(Objects.isNull(polynomial)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.POLYNOMIAL_IS_NULL);
+        }
+        int[] coefficients = polynomial.getCoefficients();
+        int length = reduce(coefficients, coefficients.length);
+        return new Polynomial(Arrays.copyOf(coefficients, Math.max(1, length)));
+    }
+}
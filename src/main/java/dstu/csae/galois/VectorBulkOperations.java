@@ -0,0 +1,141 @@
+package dstu.csae.galois;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorBulkOperations {
+
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Short> SHORT_SPECIES = VectorSpecies.of(short.class,
+            VectorShape.forBitSize(INT_SPECIES.length() * Short.SIZE));
+
+    private VectorBulkOperations(){}
+
+    static int addition(int modulo, int[] first, int[] second, int[] out){
+        int bound = INT_SPECIES.loopBound(first.length);
+        for(int i = 0; i < bound; i += INT_SPECIES.length()){
+            IntVector addition = IntVector.fromArray(INT_SPECIES, first, i)
+                    .add(IntVector.fromArray(INT_SPECIES, second, i));
+            reduceSum(addition, modulo).intoArray(out, i);
+        }
+        return bound;
+    }
+
+    static int subtraction(int modulo, int[] reduced, int[] subtracted, int[] out){
+        int bound = INT_SPECIES.loopBound(reduced.length);
+        for(int i = 0; i < bound; i += INT_SPECIES.length()){
+            IntVector subtraction = IntVector.fromArray(INT_SPECIES, reduced, i)
+                    .sub(IntVector.fromArray(INT_SPECIES, subtracted, i));
+            subtraction.add(modulo, subtraction.lt(0)).intoArray(out, i);
+        }
+        return bound;
+    }
+
+    static int multiplication(int modulo, int[] first, int[] second, int[] out){
+        float inverse = 1f / modulo;
+        int bound = INT_SPECIES.loopBound(first.length);
+        for(int i = 0; i < bound; i += INT_SPECIES.length()){
+            IntVector product = IntVector.fromArray(INT_SPECIES, first, i)
+                    .mul(IntVector.fromArray(INT_SPECIES, second, i));
+            reduceProduct(product, modulo, inverse).intoArray(out, i);
+        }
+        return bound;
+    }
+
+    static int scaleAndAccumulate(int modulo, int scalar, int[] x, int[] accumulator){
+        float inverse = 1f / modulo;
+        int bound = INT_SPECIES.loopBound(x.length);
+        for(int i = 0; i < bound; i += INT_SPECIES.length()){
+            IntVector product = reduceProduct(IntVector.fromArray(INT_SPECIES, x, i).mul(scalar), modulo, inverse);
+            reduceSum(product.add(IntVector.fromArray(INT_SPECIES, accumulator, i)), modulo)
+                    .intoArray(accumulator, i);
+        }
+        return bound;
+    }
+
+    static long dot(int modulo, int[] first, int[] second, int length){
+        float inverse = 1f / modulo;
+        int bound = INT_SPECIES.loopBound(length);
+        IntVector sum = IntVector.zero(INT_SPECIES);
+        for(int i = 0; i < bound; i += INT_SPECIES.length()){
+            IntVector product = reduceProduct(IntVector.fromArray(INT_SPECIES, first, i)
+                    .mul(IntVector.fromArray(INT_SPECIES, second, i)), modulo, inverse);
+            sum = reduceSum(sum.add(product), modulo);
+        }
+        return sum.reduceLanesToLong(VectorOperators.ADD) % modulo;
+    }
+
+    static int addition(int modulo, short[] first, short[] second, short[] out){
+        int bound = SHORT_SPECIES.loopBound(first.length);
+        for(int i = 0; i < bound; i += SHORT_SPECIES.length()){
+            IntVector addition = load(first, i).add(load(second, i));
+            store(reduceSum(addition, modulo), out, i);
+        }
+        return bound;
+    }
+
+    static int multiplication(int modulo, short[] first, short[] second, short[] out){
+        float inverse = 1f / modulo;
+        int bound = SHORT_SPECIES.loopBound(first.length);
+        for(int i = 0; i < bound; i += SHORT_SPECIES.length()){
+            IntVector product = load(first, i).mul(load(second, i));
+            store(reduceProduct(product, modulo, inverse), out, i);
+        }
+        return bound;
+    }
+
+    static int scaleAndAccumulate(int modulo, int scalar, short[] x, short[] accumulator){
+        float inverse = 1f / modulo;
+        int bound = SHORT_SPECIES.loopBound(x.length);
+        for(int i = 0; i < bound; i += SHORT_SPECIES.length()){
+            IntVector product = reduceProduct(load(x, i).mul(scalar), modulo, inverse);
+            store(reduceSum(product.add(load(accumulator, i)), modulo), accumulator, i);
+        }
+        return bound;
+    }
+
+    static long dot(int modulo, short[] first, short[] second, int length){
+        float inverse = 1f / modulo;
+        int bound = SHORT_SPECIES.loopBound(length);
+        IntVector sum = IntVector.zero(INT_SPECIES);
+        for(int i = 0; i < bound; i += SHORT_SPECIES.length()){
+            IntVector product = reduceProduct(load(first, i).mul(load(second, i)), modulo, inverse);
+            sum = reduceSum(sum.add(product), modulo);
+        }
+        return sum.reduceLanesToLong(VectorOperators.ADD) % modulo;
+    }
+
+    static int loopBound(int length){
+        return INT_SPECIES.loopBound(length);
+    }
+
+    static int shortLoopBound(int length){
+        return SHORT_SPECIES.loopBound(length);
+    }
+
+    private static IntVector reduceSum(IntVector sum, int modulo){
+        return sum.sub(modulo, sum.compare(VectorOperators.GE, modulo));
+    }
+
+    private static IntVector reduceProduct(IntVector product, int modulo, float inverse){
+        FloatVector estimate = (FloatVector) product.convert(VectorOperators.I2F, 0);
+        IntVector quotient = (IntVector) estimate.mul(inverse).convert(VectorOperators.F2I, 0);
+        IntVector remainder = product.sub(quotient.mul(modulo));
+        remainder = remainder.add(modulo, remainder.lt(0));
+        return reduceSum(remainder, modulo);
+    }
+
+    private static IntVector load(short[] array, int offset){
+        return ((IntVector) ShortVector.fromArray(SHORT_SPECIES, array, offset)
+                .convertShape(VectorOperators.S2I, INT_SPECIES, 0))
+                .and(0xFFFF);
+    }
+
+    private static void store(IntVector vector, short[] array, int offset){
+        ((ShortVector) vector.convertShape(VectorOperators.I2S, SHORT_SPECIES, 0)).intoArray(array, offset);
+    }
+}
@@ -0,0 +1,185 @@
+package dstu.csae.galois.extended;
+
+import dstu.csae.exceptions.ExceptionMessageConstants;
+import dstu.csae.exceptions.ReverseElementEvaluationException;
+import dstu.csae.galois.Field;
+import dstu.csae.galois.GaloisField;
+import dstu.csae.index.Index;
+import dstu.csae.polynomial.Polynomial;
+import lombok.Getter;
+
+import java.util.Objects;
+import java.util.Optional;
+
+public class BinaryFieldExtension implements Field {
+
+    public static final int MAX_DEGREE = Long.SIZE;
+    public static final long ZERO = 0;
+    public static final long ONE = 1;
+    @Getter
+    private final GaloisField galoisField;
+    @Getter
+    private final int degree;
+    @Getter
+    private final Polynomial polynomial;
+    final long mask;
+    final int[] reductionExponents;
+
+    public BinaryFieldExtension(Polynomial polynomial)
+            throws IllegalArgumentException{
+        this(new GaloisField(2), polynomial);
+    }
+
+    public BinaryFieldExtension(GaloisField galoisField, Polynomial polynomial)
+            throws IllegalArgumentException{
+        if(Objects.isNull(galoisField)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.FIELD_IS_NULL);
+        }
+        if(Objects.isNull(polynomial)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.POLYNOMIAL_IS_NULL);
+        }
+        if(galoisField.getCharacteristic() != 2){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.FIELD_IS_NOT_BINARY, galoisField));
+        }
+        Polynomial reduced = galoisField.bringToField(polynomial).orElse(polynomial);
+        int degree = reduced.getDegree();
+        if(degree < 1 || degree > MAX_DEGREE || reduced.get(degree) == 0){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.POLYNOMIAL_DEGREE_IS_NOT_SUPPORTED,
+                            polynomial, 1, MAX_DEGREE));
+        }
+        if(!galoisField.isIrreducible(reduced)){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.POLYNOMIAL_IS_REDUCIBLE,
+                            polynomial, galoisField));
+        }
+        this.galoisField = galoisField;
+        this.polynomial = reduced;
+        this.degree = degree;
+        this.mask = degree == MAX_DEGREE ? -1L : (1L << degree) - 1;
+        this.reductionExponents = BinaryFieldOperations.reductionExponents(reduced, degree);
+    }
+
+    public long add(long first, long second){
+        return BinaryFieldOperations.addition(this, first, second);
+    }
+
+    public Optional<Polynomial> add(Polynomial first, Polynomial second){
+        if(Objects.isNull(first) || Objects.isNull(second)){
+            return Optional.empty();
+        }
+        return Optional.of(get(add(valueOf(first), valueOf(second))));
+    }
+
+    public long subtract(long reduced, long subtracted){
+        return BinaryFieldOperations.addition(this, reduced, subtracted);
+    }
+
+    public Optional<Polynomial> subtract(Polynomial reduced, Polynomial subtracted){
+        return add(reduced, subtracted);
+    }
+
+    public long multiply(long first, long second){
+        return BinaryFieldOperations.multiplication(this, first, second);
+    }
+
+    public Optional<Polynomial> multiply(Polynomial first, Polynomial second){
+        if(Objects.isNull(first) || Objects.isNull(second)){
+            return Optional.empty();
+        }
+        return Optional.of(get(multiply(valueOf(first), valueOf(second))));
+    }
+
+    public long divide(long divisible, long divisor)
+            throws ReverseElementEvaluationException{
+        return BinaryFieldOperations.division(this, divisible, divisor);
+    }
+
+    public Optional<Polynomial> divide(Polynomial divisible, Polynomial divisor){
+        if(Objects.isNull(divisible) || Objects.isNull(divisor)){
+            return Optional.empty();
+        }
+        long divisorV = valueOf(divisor);
+        if(divisorV == ZERO){
+            return Optional.empty();
+        }
+        return Optional.of(get(divide(valueOf(divisible), divisorV)));
+    }
+
+    public long powMod(long number, long degree)
+            throws ReverseElementEvaluationException{
+        return BinaryFieldOperations.powMod(this, number, degree);
+    }
+
+    public Optional<Polynomial> powMod(Polynomial polynomial, long degree){
+        if(Objects.isNull(polynomial)){
+            return Optional.empty();
+        }
+        long number = valueOf(polynomial);
+        if(number == ZERO && degree < 0){
+            return Optional.empty();
+        }
+        return Optional.of(get(powMod(number, degree)));
+    }
+
+    public long inverseOfAddition(long number){
+        return bringToField(number);
+    }
+
+    public long inverseOfMultiplication(long number)
+            throws ReverseElementEvaluationException{
+        return BinaryFieldOperations.inverseOfMultiplication(this, number);
+    }
+
+    public Optional<Polynomial> inverseOfMultiplication(Polynomial polynomial){
+        if(Objects.isNull(polynomial)){
+            return Optional.empty();
+        }
+        long number = valueOf(polynomial);
+        if(number == ZERO){
+            return Optional.empty();
+        }
+        return Optional.of(get(inverseOfMultiplication(number)));
+    }
+
+    public void invertAll(long[] in, long[] out)
+            throws IllegalArgumentException{
+        BinaryFieldOperations.inverseOfMultiplication(this, in, out);
+    }
+
+    public long bringToField(long number){
+        return BinaryFieldOperations.bringToField(this, number);
+    }
+
+    public boolean isInField(long number){
+        return (number & ~mask) == 0;
+    }
+
+    public long valueOf(Polynomial polynomial){
+        return BinaryFieldOperations.valueOf(this, polynomial);
+    }
+
+    public Polynomial get(long number){
+        return BinaryFieldOperations.toPolynomial(this, bringToField(number));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        BinaryFieldExtension that = (BinaryFieldExtension) o;
+        return Objects.equals(polynomial, that.polynomial);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(galoisField, polynomial);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GF(2%s)(%s)",
+                Index.toSuperscript(String.valueOf(degree)),
+                polynomial);
+    }
+}
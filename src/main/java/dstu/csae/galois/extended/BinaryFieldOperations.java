@@ -0,0 +1,160 @@
+package dstu.csae.galois.extended;
+
+import dstu.csae.exceptions.ExceptionMessageConstants;
+import dstu.csae.exceptions.ReverseElementEvaluationException;
+import dstu.csae.galois.Operations;
+import dstu.csae.polynomial.Polynomial;
+
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+class BinaryFieldOperations extends Operations {
+
+    private static final int WINDOW = 4;
+    private static final int WINDOW_MASK = (1 << WINDOW) - 1;
+
+    static long addition(BinaryFieldExtension binaryFieldExtension, long first, long second){
+        return bringToField(binaryFieldExtension, first ^ second);
+    }
+
+    static long multiplication(BinaryFieldExtension binaryFieldExtension, long first, long second){
+        first = bringToField(binaryFieldExtension, first);
+        second = bringToField(binaryFieldExtension, second);
+        if(first == 0 || second == 0){
+            return 0;
+        }
+        long w1 = first;
+        long w2 = first << 1;
+        long w2High = first >>> (Long.SIZE - 1);
+        long w4 = first << 2;
+        long w4High = first >>> (Long.SIZE - 2);
+        long w8 = first << 3;
+        long w8High = first >>> (Long.SIZE - 3);
+        long high = 0;
+        long low = 0;
+        for(int shift = Long.SIZE - WINDOW; shift >= 0; shift -= WINDOW){
+            high = (high << WINDOW) | (low >>> (Long.SIZE - WINDOW));
+            low <<= WINDOW;
+            int u = (int) (second >>> shift) & WINDOW_MASK;
+            long m1 = -(u & 1);
+            long m2 = -((u >>> 1) & 1);
+            long m4 = -((u >>> 2) & 1);
+            long m8 = -((u >>> 3) & 1);
+            low ^= (w1 & m1) ^ (w2 & m2) ^ (w4 & m4) ^ (w8 & m8);
+            high ^= (w2High & m2) ^ (w4High & m4) ^ (w8High & m8);
+        }
+        return reduce(binaryFieldExtension, high, low);
+    }
+
+    static long division(BinaryFieldExtension binaryFieldExtension, long divisible, long divisor)
+            throws ReverseElementEvaluationException{
+        return multiplication(binaryFieldExtension, divisible,
+                inverseOfMultiplication(binaryFieldExtension, divisor));
+    }
+
+    static long powMod(BinaryFieldExtension binaryFieldExtension, long number, long degree)
+            throws ReverseElementEvaluationException{
+        number = bringToField(binaryFieldExtension, number);
+        if(degree == 0){
+            return 1;
+        }
+        if(degree < 0){
+            number = inverseOfMultiplication(binaryFieldExtension, number);
+            degree = -degree;
+        }
+        long result = 1;
+        while(degree != 0){
+            if((degree & 1) == 1){
+                result = multiplication(binaryFieldExtension, result, number);
+            }
+            degree >>>= 1;
+            if(degree != 0){
+                number = multiplication(binaryFieldExtension, number, number);
+            }
+        }
+        return result;
+    }
+
+    static long inverseOfMultiplication(BinaryFieldExtension binaryFieldExtension, long number)
+            throws ReverseElementEvaluationException{
+        number = bringToField(binaryFieldExtension, number);
+        if(number == 0){
+            throw new ReverseElementEvaluationException(
+                    String.format(ExceptionMessageConstants.REVERSE_ELEMENT_DOES_NOT_EXIST, number));
+        }
+        long inverse = 1;
+        long square = number;
+        for(int i = 1; i < binaryFieldExtension.getDegree(); i ++){
+            square = multiplication(binaryFieldExtension, square, square);
+            inverse = multiplication(binaryFieldExtension, inverse, square);
+        }
+        return inverse;
+    }
+
+    static void inverseOfMultiplication(BinaryFieldExtension binaryFieldExtension, long[] in, long[] out)
+            throws IllegalArgumentException{
+        batchInverse(in, out, number -> bringToField(binaryFieldExtension, number),
+                (first, second) -> multiplication(binaryFieldExtension, first, second),
+                number -> inverseOfMultiplication(binaryFieldExtension, number));
+    }
+
+    static long bringToField(BinaryFieldExtension binaryFieldExtension, long number){
+        return number & binaryFieldExtension.mask;
+    }
+
+    static long valueOf(BinaryFieldExtension binaryFieldExtension, Polynomial polynomial){
+        if(Objects.isNull(polynomial)){
+            return 0;
+        }
+        int length = 0;
+        while(polynomial.isInBounds(length)){
+            length ++;
+        }
+        long value = 0;
+        for(int i = length - 1; i >= 0; i --){
+            value = reduce(binaryFieldExtension, value >>> (Long.SIZE - 1), value << 1);
+            value ^= polynomial.get(i) & 1;
+        }
+        return value;
+    }
+
+    static Polynomial toPolynomial(BinaryFieldExtension binaryFieldExtension, long number){
+        int[] coefficients = new int[binaryFieldExtension.getDegree()];
+        for(int i = 0; i < coefficients.length; i ++){
+            coefficients[i] = (int) (number >>> i) & 1;
+        }
+        return new Polynomial(coefficients);
+    }
+
+    static int[] reductionExponents(Polynomial polynomial, int degree){
+        return IntStream.range(0, degree)
+                .filter(i -> polynomial.isInBounds(i) && (polynomial.get(i) & 1) == 1)
+                .toArray();
+    }
+
+    private static long reduce(BinaryFieldExtension binaryFieldExtension, long high, long low){
+        int degree = binaryFieldExtension.getDegree();
+        long overflow = shiftRight(high, low, degree);
+        low &= binaryFieldExtension.mask;
+        while(overflow != 0){
+            long foldedHigh = 0;
+            long foldedLow = low;
+            for(int exponent : binaryFieldExtension.reductionExponents){
+                foldedLow ^= overflow << exponent;
+                if(exponent != 0){
+                    foldedHigh ^= overflow >>> (Long.SIZE - exponent);
+                }
+            }
+            overflow = shiftRight(foldedHigh, foldedLow, degree);
+            low = foldedLow & binaryFieldExtension.mask;
+        }
+        return low;
+    }
+
+    private static long shiftRight(long high, long low, int shift){
+        if(shift == Long.SIZE){
+            return high;
+        }
+        return (high << (Long.SIZE - shift)) | (low >>> shift);
+    }
+}
@@ -0,0 +1,333 @@
+package dstu.csae.galois.extended;
+
+import dstu.csae.galois.GaloisField;
+import dstu.csae.galois.SparseReducer;
+import dstu.csae.polynomial.Polynomial;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+final class CoefficientOperations {
+
+    private CoefficientOperations(){}
+
+    static int[] decode(int index, int characteristic, int degree){
+        int[] coefficients = new int[degree];
+        for(int i = 0; i < degree; i ++){
+            coefficients[i] = index % characteristic;
+            index /= characteristic;
+        }
+        return coefficients;
+    }
+
+    static int encode(int[] coefficients, int characteristic){
+        long index = 0;
+        for(int i = coefficients.length - 1; i >= 0; i --){
+            index = index * characteristic + coefficients[i];
+            if(index > Integer.MAX_VALUE){
+                return -1;
+            }
+        }
+        return (int) index;
+    }
+
+    static int encode(Polynomial polynomial, int characteristic, int degree){
+        if(!isCanonical(polynomial, characteristic, degree)){
+            return -1;
+        }
+        long index = 0;
+        long weight = 1;
+        for(int i = 0; i < degree && polynomial.isInBounds(i); i ++){
+            int coefficient = polynomial.get(i);
+            if(coefficient != 0){
+                if(weight > Integer.MAX_VALUE){
+                    return -1;
+                }
+                index += coefficient * weight;
+            }
+            if(weight <= Integer.MAX_VALUE){
+                weight *= characteristic;
+            }
+        }
+        return index > Integer.MAX_VALUE ? -1 : (int) index;
+    }
+
+    static boolean isCanonical(Polynomial polynomial, int characteristic, int degree){
+        for(int i = 0; polynomial.isInBounds(i); i ++){
+            int coefficient = polynomial.get(i);
+            if(coefficient < 0 || coefficient >= characteristic){
+                return false;
+            }
+            if(i >= degree && coefficient != 0){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int addition(int first, int second, int characteristic){
+        if(characteristic == 2){
+            return first ^ second;
+        }
+        int addition = 0;
+        int weight = 1;
+        while(first != 0 || second != 0){
+            int digit = first % characteristic + second % characteristic;
+            if(digit >= characteristic){
+                digit -= characteristic;
+            }
+            addition += digit * weight;
+            weight *= characteristic;
+            first /= characteristic;
+            second /= characteristic;
+        }
+        return addition;
+    }
+
+    static int negation(int index, int characteristic){
+        if(characteristic == 2){
+            return index;
+        }
+        int negation = 0;
+        int weight = 1;
+        while(index != 0){
+            int digit = index % characteristic;
+            if(digit != 0){
+                negation += (characteristic - digit) * weight;
+            }
+            weight *= characteristic;
+            index /= characteristic;
+        }
+        return negation;
+    }
+
+    static int[] multiplication(int[] first, int[] second, int[] modulus,
+                                int characteristic, int leadInverse, SparseReducer reducer){
+        int degree = modulus.length - 1;
+        long[] product = new long[first.length + second.length - 1];
+        for(int i = 0; i < first.length; i ++){
+            if(first[i] == 0){
+                continue;
+            }
+            for(int j = 0; j < second.length; j ++){
+                product[i + j] = (product[i + j] + (long) first[i] * second[j]) % characteristic;
+            }
+        }
+        if(reducer != null){
+            int[] sparse = new int[Math.max(product.length, degree)];
+            for(int i = 0; i < product.length; i ++){
+                sparse[i] = (int) product[i];
+            }
+            reducer.reduce(sparse, product.length);
+            return Arrays.copyOf(sparse, degree);
+        }
+        for(int k = product.length - 1; k >= degree; k --){
+            long factor = product[k] * leadInverse % characteristic;
+            if(factor == 0){
+                continue;
+            }
+            int shift = k - degree;
+            for(int j = 0; j <= degree; j ++){
+                long subtracted = factor * modulus[j] % characteristic;
+                product[shift + j] = (product[shift + j] - subtracted + characteristic) % characteristic;
+            }
+        }
+        int[] multiplication = new int[degree];
+        for(int i = 0; i < Math.min(degree, product.length); i ++){
+            multiplication[i] = (int) product[i];
+        }
+        return multiplication;
+    }
+
+    static int[] powers(int generator, int[] modulus, int characteristic, int leadInverse, int order,
+                        SparseReducer reducer){
+        int degree = modulus.length - 1;
+        int[] powers = new int[order];
+        boolean[] visited = new boolean[order + 1];
+        int[] generatorC = decode(generator, characteristic, degree);
+        int[] current = decode(1, characteristic, degree);
+        for(int k = 0; k < order; k ++){
+            int index = encode(current, characteristic);
+            if(index == 0 || visited[index]){
+                return null;
+            }
+            visited[index] = true;
+            powers[k] = index;
+            current = multiplication(current, generatorC, modulus, characteristic, leadInverse, reducer);
+        }
+        return encode(current, characteristic) == 1 ? powers : null;
+    }
+
+    static int[] addition(int[] first, int[] second, int characteristic){
+        int[] addition = new int[first.length];
+        for(int i = 0; i < first.length; i ++){
+            int sum = first[i] + second[i];
+            addition[i] = sum >= characteristic ? sum - characteristic : sum;
+        }
+        return addition;
+    }
+
+    static int[] negation(int[] coefficients, int characteristic){
+        int[] negation = new int[coefficients.length];
+        for(int i = 0; i < coefficients.length; i ++){
+            negation[i] = coefficients[i] == 0 ? 0 : characteristic - coefficients[i];
+        }
+        return negation;
+    }
+
+    static int[] reduce(int[] coefficients, int[] modulus, int characteristic, int leadInverse){
+        int degree = modulus.length - 1;
+        long[] remainder = new long[Math.max(coefficients.length, degree)];
+        for(int i = 0; i < coefficients.length; i ++){
+            remainder[i] = Math.floorMod(coefficients[i], characteristic);
+        }
+        for(int k = remainder.length - 1; k >= degree; k --){
+            long factor = remainder[k] * leadInverse % characteristic;
+            if(factor == 0){
+                continue;
+            }
+            int shift = k - degree;
+            for(int j = 0; j <= degree; j ++){
+                long subtracted = factor * modulus[j] % characteristic;
+                remainder[shift + j] = (remainder[shift + j] - subtracted + characteristic) % characteristic;
+            }
+        }
+        int[] reduced = new int[degree];
+        for(int i = 0; i < degree; i ++){
+            reduced[i] = (int) remainder[i];
+        }
+        return reduced;
+    }
+
+    static int[] power(int[] base, long degree, int[] modulus, int characteristic, int leadInverse,
+                       SparseReducer reducer){
+        int[] result = new int[modulus.length - 1];
+        result[0] = 1;
+        while(degree > 0){
+            if((degree & 1) == 1){
+                result = multiplication(result, base, modulus, characteristic, leadInverse, reducer);
+            }
+            degree >>= 1;
+            if(degree > 0){
+                base = multiplication(base, base, modulus, characteristic, leadInverse, reducer);
+            }
+        }
+        return result;
+    }
+
+    static int[] power(int[] base, BigInteger degree, int[] modulus, int characteristic, int leadInverse,
+                       SparseReducer reducer){
+        int[] result = new int[modulus.length - 1];
+        result[0] = 1;
+        for(int bit = degree.bitLength() - 1; bit >= 0; bit --){
+            result = multiplication(result, result, modulus, characteristic, leadInverse, reducer);
+            if(degree.testBit(bit)){
+                result = multiplication(result, base, modulus, characteristic, leadInverse, reducer);
+            }
+        }
+        return result;
+    }
+
+    static boolean isOne(int[] coefficients){
+        if(coefficients[0] != 1){
+            return false;
+        }
+        for(int i = 1; i < coefficients.length; i ++){
+            if(coefficients[i] != 0){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int[] inverse(int[] element, int[] modulus, GaloisField galoisField){
+        int characteristic = galoisField.getCharacteristic();
+        int[] previousRemainder = Arrays.copyOf(modulus, modulus.length);
+        int[] remainder = Arrays.copyOf(element, element.length);
+        int[] previousFactor = new int[]{0};
+        int[] factor = new int[]{1};
+        while(degreeOf(remainder) > 0){
+            int[][] quotientAndRemainder = divide(previousRemainder, remainder, galoisField);
+            int[] nextFactor = subtract(previousFactor,
+                    multiply(quotientAndRemainder[0], factor, characteristic), characteristic);
+            previousRemainder = remainder;
+            remainder = quotientAndRemainder[1];
+            previousFactor = factor;
+            factor = nextFactor;
+        }
+        if(degreeOf(remainder) < 0){
+            return null;
+        }
+        long scale = galoisField.inverseOfMultiplication(remainder[0]);
+        int[] inverse = new int[modulus.length - 1];
+        for(int i = 0; i <= Math.min(degreeOf(factor), inverse.length - 1); i ++){
+            inverse[i] = (int) (factor[i] * scale % characteristic);
+        }
+        return inverse;
+    }
+
+    static int degreeOf(int[] coefficients){
+        int degree = coefficients.length - 1;
+        while(degree >= 0 && coefficients[degree] == 0){
+            degree --;
+        }
+        return degree;
+    }
+
+    private static int[][] divide(int[] divisible, int[] divisor, GaloisField galoisField){
+        int characteristic = galoisField.getCharacteristic();
+        int divisorDegree = degreeOf(divisor);
+        int remainderDegree = degreeOf(divisible);
+        long[] remainder = new long[remainderDegree + 1];
+        for(int i = 0; i <= remainderDegree; i ++){
+            remainder[i] = divisible[i];
+        }
+        int[] quotient = new int[Math.max(remainderDegree - divisorDegree + 1, 1)];
+        long leadInverse = galoisField.inverseOfMultiplication(divisor[divisorDegree]);
+        for(int k = remainderDegree; k >= divisorDegree; k --){
+            long factor = remainder[k] * leadInverse % characteristic;
+            if(factor == 0){
+                continue;
+            }
+            int shift = k - divisorDegree;
+            quotient[shift] = (int) factor;
+            for(int j = 0; j <= divisorDegree; j ++){
+                long subtracted = factor * divisor[j] % characteristic;
+                remainder[shift + j] = (remainder[shift + j] - subtracted + characteristic) % characteristic;
+            }
+        }
+        int[] rest = new int[Math.max(divisorDegree, 1)];
+        for(int i = 0; i < Math.min(rest.length, remainder.length); i ++){
+            rest[i] = (int) remainder[i];
+        }
+        return new int[][]{quotient, rest};
+    }
+
+    private static int[] multiply(int[] first, int[] second, int characteristic){
+        long[] product = new long[first.length + second.length - 1];
+        for(int i = 0; i < first.length; i ++){
+            if(first[i] == 0){
+                continue;
+            }
+            for(int j = 0; j < second.length; j ++){
+                product[i + j] = (product[i + j] + (long) first[i] * second[j]) % characteristic;
+            }
+        }
+        int[] multiplication = new int[product.length];
+        for(int i = 0; i < product.length; i ++){
+            multiplication[i] = (int) product[i];
+        }
+        return multiplication;
+    }
+
+    private static int[] subtract(int[] reduced, int[] subtracted, int characteristic){
+        int[] subtraction = new int[Math.max(reduced.length, subtracted.length)];
+        for(int i = 0; i < subtraction.length; i ++){
+            int first = i < reduced.length ? reduced[i] : 0;
+            int second = i < subtracted.length ? subtracted[i] : 0;
+            int difference = first - second;
+            subtraction[i] = difference < 0 ? difference + characteristic : difference;
+        }
+        return subtraction;
+    }
+}
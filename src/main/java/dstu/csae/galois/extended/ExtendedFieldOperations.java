@@ -1,12 +1,14 @@
 package dstu.csae.galois.extended;
 
-import dstu.csae.galois.GaloisField;
+import dstu.csae.exceptions.ExceptionMessageConstants;
+import dstu.csae.galois.Operations;
 import dstu.csae.polynomial.Polynomial;
 
+import java.math.BigInteger;
 import java.util.*;
 import java.util.stream.IntStream;
 
-public class ExtendedFieldOperations {
+public class ExtendedFieldOperations extends Operations {
 
     static int addition(GaloisFieldExtension galoisFieldExtension, int first, int second){
         if(Objects.isNull(galoisFieldExtension)){
@@ -14,16 +16,27 @@ public class ExtendedFieldOperations {
         }
         first = bringToField(galoisFieldExtension, first);
         second = bringToField(galoisFieldExtension, second);
-        return galoisFieldExtension.additionMatrix[first][second];
+        if(first < 0 || second < 0){
+            return -1;
+        }
+        return switch (galoisFieldExtension.getMode()){
+            case OPERATION_MATRIX -> galoisFieldExtension.additionMatrix.get(first, second);
+            case LOG_TABLE -> CoefficientOperations.addition(first, second,
+                    galoisFieldExtension.getGaloisField().getCharacteristic());
+            case TABLE_FREE -> TableFreeOperations.addition(galoisFieldExtension, first, second);
+        };
     }
 
     static Polynomial addition(GaloisFieldExtension galoisFieldExtension, Polynomial first, Polynomial second){
         if(checkNullable(galoisFieldExtension, first, second)){
             return null;
         }
-        int firstI = galoisFieldExtension.indexOf(bringToField(galoisFieldExtension, first));
-        int secondI = galoisFieldExtension.indexOf(bringToField(galoisFieldExtension, second));
-        int additionI = galoisFieldExtension.additionMatrix[firstI][secondI];
+        if(galoisFieldExtension.getMode() == ExtensionMode.TABLE_FREE){
+            return TableFreeOperations.addition(galoisFieldExtension, first, second);
+        }
+        int firstI = indexOfReduced(galoisFieldExtension, first);
+        int secondI = indexOfReduced(galoisFieldExtension, second);
+        int additionI = addition(galoisFieldExtension, firstI, secondI);
         return galoisFieldExtension.get(additionI);
     }
 
@@ -34,17 +47,20 @@ public class ExtendedFieldOperations {
         reduced = bringToField(galoisFieldExtension, reduced);
         subtracted = bringToField(galoisFieldExtension, subtracted);
         subtracted = inverseOfAddition(galoisFieldExtension, subtracted);
-        return galoisFieldExtension.additionMatrix[reduced][subtracted];
+        return addition(galoisFieldExtension, reduced, subtracted);
     }
 
     static Polynomial subtraction(GaloisFieldExtension galoisFieldExtension, Polynomial reduced, Polynomial subtracted){
         if(checkNullable(galoisFieldExtension, reduced, subtracted)){
             return null;
         }
-        int reducedI = galoisFieldExtension.indexOf(bringToField(galoisFieldExtension, reduced));
-        int subtractedI = galoisFieldExtension.indexOf(
-                inverseOfAddition(galoisFieldExtension, bringToField(galoisFieldExtension, subtracted)));
-        int subtractionI = galoisFieldExtension.additionMatrix[reducedI][subtractedI];
+        if(galoisFieldExtension.getMode() == ExtensionMode.TABLE_FREE){
+            return TableFreeOperations.subtraction(galoisFieldExtension, reduced, subtracted);
+        }
+        int reducedI = indexOfReduced(galoisFieldExtension, reduced);
+        int subtractedI = inverseOfAddition(galoisFieldExtension,
+                indexOfReduced(galoisFieldExtension, subtracted));
+        int subtractionI = addition(galoisFieldExtension, reducedI, subtractedI);
         return galoisFieldExtension.get(subtractionI);
     }
 
@@ -54,16 +70,26 @@ public class ExtendedFieldOperations {
         }
         first = bringToField(galoisFieldExtension, first);
         second = bringToField(galoisFieldExtension, second);
-        return galoisFieldExtension.multiplicationMatrix[first][second];
+        if(first < 0 || second < 0){
+            return -1;
+        }
+        return switch (galoisFieldExtension.getMode()){
+            case OPERATION_MATRIX -> galoisFieldExtension.multiplicationMatrix.get(first, second);
+            case LOG_TABLE -> logMultiplication(galoisFieldExtension, first, second);
+            case TABLE_FREE -> TableFreeOperations.multiplication(galoisFieldExtension, first, second);
+        };
     }
 
     static Polynomial multiplication(GaloisFieldExtension galoisFieldExtension, Polynomial first, Polynomial second){
         if(checkNullable(galoisFieldExtension, first, second)){
             return null;
         }
-        int firstI = galoisFieldExtension.indexOf(bringToField(galoisFieldExtension, first));
-        int secondI = galoisFieldExtension.indexOf(bringToField(galoisFieldExtension, second));
-        int multiplicationI = galoisFieldExtension.multiplicationMatrix[firstI][secondI];
+        if(galoisFieldExtension.getMode() == ExtensionMode.TABLE_FREE){
+            return TableFreeOperations.multiplication(galoisFieldExtension, first, second);
+        }
+        int firstI = indexOfReduced(galoisFieldExtension, first);
+        int secondI = indexOfReduced(galoisFieldExtension, second);
+        int multiplicationI = multiplication(galoisFieldExtension, firstI, secondI);
         return galoisFieldExtension.get(multiplicationI);
     }
 
@@ -71,10 +97,15 @@ public class ExtendedFieldOperations {
         if(checkNullable(galoisFieldExtension, divisible, divisor)){
             return null;
         }
-        int divisibleI = galoisFieldExtension.indexOf(bringToField(galoisFieldExtension, divisible));
-        int divisorI = galoisFieldExtension.indexOf(
-                inverseOfMultiplication(galoisFieldExtension, bringToField(galoisFieldExtension, divisor)));
-        int divisionI = galoisFieldExtension.multiplicationMatrix[divisibleI][divisorI];
+        if(galoisFieldExtension.getMode() == ExtensionMode.TABLE_FREE){
+            return TableFreeOperations.division(galoisFieldExtension, divisible, divisor);
+        }
+        int divisibleI = indexOfReduced(galoisFieldExtension, divisible);
+        int divisorI = indexOfReduced(galoisFieldExtension, divisor);
+        if(divisorI == 0){
+            return null;
+        }
+        int divisionI = division(galoisFieldExtension, divisibleI, divisorI);
         return galoisFieldExtension.get(divisionI);
     }
 
@@ -84,8 +115,17 @@ public class ExtendedFieldOperations {
         }
         divisible = bringToField(galoisFieldExtension, divisible);
         divisor = bringToField(galoisFieldExtension, divisor);
+        if(divisible < 0 || divisor < 0){
+            return -1;
+        }
+        if(galoisFieldExtension.getMode() == ExtensionMode.LOG_TABLE){
+            return logDivision(galoisFieldExtension, divisible, divisor);
+        }
+        if(galoisFieldExtension.getMode() == ExtensionMode.TABLE_FREE){
+            return TableFreeOperations.division(galoisFieldExtension, divisible, divisor);
+        }
         divisor = inverseOfMultiplication(galoisFieldExtension, divisor);
-        return galoisFieldExtension.multiplicationMatrix[divisible][divisor];
+        return galoisFieldExtension.multiplicationMatrix.get(divisible, divisor);
     }
 
     static int powMod(GaloisFieldExtension galoisFieldExtension, int number, int degree){
@@ -95,9 +135,18 @@ public class ExtendedFieldOperations {
         if(!isInBounds(galoisFieldExtension, number)){
             number = bringToField(galoisFieldExtension, number);
         }
+        if(number < 0){
+            return -1;
+        }
         if(degree == 0){
             return 1;
         }
+        if(galoisFieldExtension.getMode() == ExtensionMode.TABLE_FREE){
+            return TableFreeOperations.powMod(galoisFieldExtension, number, degree);
+        }
+        if(galoisFieldExtension.getMode() == ExtensionMode.LOG_TABLE){
+            return logPowMod(galoisFieldExtension, number, degree);
+        }
         if(degree < 0){
             number = inverseOfMultiplication(galoisFieldExtension, number);
             degree = -degree;
@@ -121,7 +170,10 @@ public class ExtendedFieldOperations {
         if(checkNullable(galoisFieldExtension, polynomial)){
             return null;
         }
-        int polynomialI = galoisFieldExtension.indexOf(bringToField(galoisFieldExtension, polynomial));
+        if(galoisFieldExtension.getMode() == ExtensionMode.TABLE_FREE){
+            return TableFreeOperations.powMod(galoisFieldExtension, polynomial, degree);
+        }
+        int polynomialI = indexOfReduced(galoisFieldExtension, polynomial);
         return galoisFieldExtension.get(powMod(galoisFieldExtension, polynomialI, degree));
     }
 
@@ -129,9 +181,10 @@ public class ExtendedFieldOperations {
         if(checkNullable(galoisFieldExtension, polynomial)){
             return null;
         }
-        Polynomial bring = Optional.ofNullable(bringToField(galoisFieldExtension, polynomial))
-                .orElse(galoisFieldExtension.ZERO);
-        int indexOfBring = galoisFieldExtension.indexOf(bring);
+        if(galoisFieldExtension.getMode() == ExtensionMode.TABLE_FREE){
+            return TableFreeOperations.inverseOfAddition(galoisFieldExtension, polynomial);
+        }
+        int indexOfBring = indexOfReduced(galoisFieldExtension, polynomial);
         return galoisFieldExtension.get(inverseOfAddition(galoisFieldExtension, indexOfBring));
     }
 
@@ -139,12 +192,13 @@ public class ExtendedFieldOperations {
         if (checkNullable(galoisFieldExtension, polynomial)) {
             return null;
         }
-        Polynomial bring = Optional.ofNullable(bringToField(galoisFieldExtension, polynomial))
-                .orElse(galoisFieldExtension.ZERO);
-        if (bring.equals(galoisFieldExtension.ZERO)) {
+        if(galoisFieldExtension.getMode() == ExtensionMode.TABLE_FREE){
+            return TableFreeOperations.inverseOfMultiplication(galoisFieldExtension, polynomial);
+        }
+        int indexOfBring = indexOfReduced(galoisFieldExtension, polynomial);
+        if (indexOfBring <= 0) {
             return null;
         }
-        int indexOfBring = galoisFieldExtension.indexOf(bring);
         return galoisFieldExtension.get(inverseOfMultiplication(galoisFieldExtension, indexOfBring));
     }
 
@@ -152,42 +206,147 @@ public class ExtendedFieldOperations {
         if(checkNullable(galoisFieldExtension)){
             return 0;
         }
+        if(isInBounds(galoisFieldExtension, index)){
+            return index;
+        }
+        if(galoisFieldExtension.getOrder().bitLength() >= Integer.SIZE){
+            return -1;
+        }
         int elementCount = galoisFieldExtension.getCharacteristic();
         index %= elementCount;
         return index < 0 ? index + elementCount : index;
     }
 
+    private static int indexOfReduced(GaloisFieldExtension galoisFieldExtension, Polynomial polynomial){
+        int index = galoisFieldExtension.indexOf(polynomial);
+        if(index != -1){
+            return index;
+        }
+        return Optional.ofNullable(bringToField(galoisFieldExtension, polynomial))
+                .map(galoisFieldExtension::indexOf)
+                .orElse(0);
+    }
+
     static Polynomial bringToField(GaloisFieldExtension galoisFieldExtension, Polynomial polynomial){
         if(checkNullable(galoisFieldExtension, polynomial)){
             return null;
         }
-        GaloisField galoisField = galoisFieldExtension.getGaloisField();
-        Optional<Polynomial> bringPolynomial = galoisField.bringToField(polynomial);
-        if(bringPolynomial.isEmpty()) {
-            return null;
-        }
-        Polynomial result = bringPolynomial.get();
-        bringPolynomial = galoisField.mod(result, galoisFieldExtension.getPolynomial());
-        return bringPolynomial.orElse(null);
+        return new Polynomial(TableFreeOperations.coefficients(galoisFieldExtension, polynomial));
     }
 
     static int inverseOfAddition(GaloisFieldExtension galoisFieldExtension, int index){
         if(!isInBounds(galoisFieldExtension, index)){
             return -1;
         }
-        return inverseOf(galoisFieldExtension.additionMatrix, index, 0);
+        return switch (galoisFieldExtension.getMode()){
+            case OPERATION_MATRIX -> inverseOf(galoisFieldExtension.additionMatrix, index, 0);
+            case LOG_TABLE -> CoefficientOperations.negation(index,
+                    galoisFieldExtension.getGaloisField().getCharacteristic());
+            case TABLE_FREE -> TableFreeOperations.inverseOfAddition(galoisFieldExtension, index);
+        };
     }
 
     static int inverseOfMultiplication(GaloisFieldExtension galoisFieldExtension, int index){
         if(!isInBounds(galoisFieldExtension, index)){
             return -1;
         }
-        return inverseOf(galoisFieldExtension.multiplicationMatrix, index, 1);
+        return switch (galoisFieldExtension.getMode()){
+            case OPERATION_MATRIX -> inverseOf(galoisFieldExtension.multiplicationMatrix, index, 1);
+            case LOG_TABLE -> logDivision(galoisFieldExtension, 1, index);
+            case TABLE_FREE -> TableFreeOperations.inverseOfMultiplication(galoisFieldExtension, index);
+        };
+    }
+
+    static int evaluate(GaloisFieldExtension galoisFieldExtension, Polynomial polynomial, int x)
+            throws IllegalArgumentException{
+        if(checkNullable(polynomial)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.POLYNOMIAL_IS_NULL);
+        }
+        return evaluate(galoisFieldExtension, coefficients(galoisFieldExtension, polynomial), x);
+    }
+
+    static void evaluate(GaloisFieldExtension galoisFieldExtension, Polynomial polynomial, int[] points, int[] out)
+            throws IllegalArgumentException{
+        if(checkNullable(polynomial)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.POLYNOMIAL_IS_NULL);
+        }
+        if(checkNullable(points, out)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.ARRAY_IS_NULL);
+        }
+        if(out.length < points.length){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.ARRAY_LENGTH_MISMATCH, out.length, points.length));
+        }
+        int[] coefficients = coefficients(galoisFieldExtension, polynomial);
+        for(int i = 0; i < points.length; i ++){
+            out[i] = evaluate(galoisFieldExtension, coefficients, points[i]);
+        }
+    }
+
+    private static int evaluate(GaloisFieldExtension galoisFieldExtension, int[] coefficients, int x){
+        int point = bringToField(galoisFieldExtension, x);
+        int result = 0;
+        for(int i = coefficients.length - 1; i >= 0; i --){
+            result = addition(galoisFieldExtension, multiplication(galoisFieldExtension, result, point), coefficients[i]);
+        }
+        return result;
+    }
+
+    private static int[] coefficients(GaloisFieldExtension galoisFieldExtension, Polynomial polynomial){
+        int[] coefficients = polynomial.getCoefficients();
+        for(int i = 0; i < coefficients.length; i ++){
+            coefficients[i] = bringToField(galoisFieldExtension, coefficients[i]);
+        }
+        return coefficients;
+    }
+
+    static void inverseOfMultiplication(GaloisFieldExtension galoisFieldExtension, int[] in, int[] out)
+            throws IllegalArgumentException{
+        batchInverse(in, out, number -> bringToField(galoisFieldExtension, number),
+                (first, second) -> multiplication(galoisFieldExtension, first, second),
+                number -> inverseOfMultiplication(galoisFieldExtension, number));
+    }
+
+    private static int logMultiplication(GaloisFieldExtension galoisFieldExtension, int first, int second){
+        if(first == 0 || second == 0){
+            return 0;
+        }
+        int[] logarithms = galoisFieldExtension.logarithms;
+        int order = galoisFieldExtension.exponents.length;
+        int logarithm = logarithms[first] + logarithms[second];
+        if(logarithm >= order){
+            logarithm -= order;
+        }
+        return galoisFieldExtension.exponents[logarithm];
+    }
+
+    private static int logDivision(GaloisFieldExtension galoisFieldExtension, int divisible, int divisor){
+        if(divisor == 0){
+            return -1;
+        }
+        if(divisible == 0){
+            return 0;
+        }
+        int[] logarithms = galoisFieldExtension.logarithms;
+        int logarithm = logarithms[divisible] - logarithms[divisor];
+        if(logarithm < 0){
+            logarithm += galoisFieldExtension.exponents.length;
+        }
+        return galoisFieldExtension.exponents[logarithm];
     }
 
-    private static int inverseOf(int[][] operationMatrix, int index, int neutralElement){
-        OptionalInt inverse = IntStream.range(0, operationMatrix.length)
-                .filter(i -> operationMatrix[index][i] == neutralElement)
+    private static int logPowMod(GaloisFieldExtension galoisFieldExtension, int number, int degree){
+        if(number == 0){
+            return degree > 0 ? 0 : -1;
+        }
+        int order = galoisFieldExtension.exponents.length;
+        long logarithm = (long) galoisFieldExtension.logarithms[number] * degree;
+        return galoisFieldExtension.exponents[(int) Math.floorMod(logarithm, (long) order)];
+    }
+
+    private static int inverseOf(OperationTable operationMatrix, int index, int neutralElement){
+        OptionalInt inverse = IntStream.range(0, operationMatrix.size)
+                .filter(i -> operationMatrix.get(index, i) == neutralElement)
                 .findFirst();
         if(inverse.isEmpty()){
             return -1;
@@ -196,18 +355,27 @@ public class ExtendedFieldOperations {
     }
 
     static boolean isInBounds(GaloisFieldExtension galoisFieldExtension, int number){
-        return number >= 0 && number < galoisFieldExtension.getCharacteristic();
+        if(number < 0){
+            return false;
+        }
+        return galoisFieldExtension.getOrder().bitLength() >= Integer.SIZE
+                || number < galoisFieldExtension.getCharacteristic();
     }
 
     static boolean isPrimitive(GaloisFieldExtension galoisFieldExtension, int element){
         if(Objects.isNull(galoisFieldExtension)){
             return false;
         }
-        HashSet<Integer> generatingElements = new HashSet<>(){{add(0);}};
-        for(int i = 1; i <= galoisFieldExtension.getCharacteristic(); i++){
-            generatingElements.add(powMod(galoisFieldExtension, element, i));
+        if(!isInBounds(galoisFieldExtension, element) || element == 0){
+            return false;
+        }
+        if(galoisFieldExtension.getMode() == ExtensionMode.LOG_TABLE){
+            int order = galoisFieldExtension.getCharacteristic() - 1;
+            return BigInteger.valueOf(galoisFieldExtension.logarithms[element])
+                    .gcd(BigInteger.valueOf(order)).equals(BigInteger.ONE);
         }
-        return generatingElements.size() == galoisFieldExtension.getCharacteristic();
+        return isPrimitive(galoisFieldExtension, CoefficientOperations.decode(element,
+                galoisFieldExtension.getGaloisField().getCharacteristic(), galoisFieldExtension.getDegree()));
     }
 
     static boolean isPrimitive(GaloisFieldExtension galoisFieldExtension, Polynomial polynomial){
@@ -217,10 +385,30 @@ public class ExtendedFieldOperations {
         if(!galoisFieldExtension.isInField(polynomial)){
             return false;
         }
+        if(galoisFieldExtension.getMode() == ExtensionMode.TABLE_FREE){
+            return isPrimitive(galoisFieldExtension, TableFreeOperations.coefficients(galoisFieldExtension, polynomial));
+        }
         int polynomialI = galoisFieldExtension.indexOf(polynomial);
         return isPrimitive(galoisFieldExtension, polynomialI);
     }
 
+    static boolean isPrimitive(GaloisFieldExtension galoisFieldExtension, int[] coefficients){
+        if(CoefficientOperations.degreeOf(coefficients) < 0){
+            return false;
+        }
+        BigInteger order = galoisFieldExtension.getOrder().subtract(BigInteger.ONE);
+        int characteristic = galoisFieldExtension.getGaloisField().getCharacteristic();
+        for(BigInteger divisor : galoisFieldExtension.getGroupOrderDivisors()){
+            int[] power = CoefficientOperations.power(coefficients, order.divide(divisor),
+                    galoisFieldExtension.modulus, characteristic, galoisFieldExtension.leadInverse,
+                    galoisFieldExtension.reducer);
+            if(CoefficientOperations.isOne(power)){
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static boolean checkNullable(Object ... objects){
         return Arrays.stream(objects).anyMatch(Objects::isNull);
     }
@@ -0,0 +1,7 @@
+package dstu.csae.galois.extended;
+
+public enum ExtensionMode {
+    OPERATION_MATRIX,
+    LOG_TABLE,
+    TABLE_FREE
+}
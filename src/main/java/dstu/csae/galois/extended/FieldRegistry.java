@@ -0,0 +1,217 @@
+package dstu.csae.galois.extended;
+
+import dstu.csae.exceptions.ExceptionMessageConstants;
+import dstu.csae.galois.GaloisField;
+import dstu.csae.polynomial.Polynomial;
+import lombok.Getter;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class FieldRegistry {
+
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 1L << 28;
+    private static final FieldRegistry SHARED = new FieldRegistry(DEFAULT_MAXIMUM_WEIGHT);
+
+    @Getter
+    private final long maximumWeight;
+    private final Map<Key, CompletableFuture<Entry>> entries = new ConcurrentHashMap<>();
+    private final LinkedHashMap<Key, GaloisFieldExtension> retained = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReferenceQueue<GaloisFieldExtension> collected = new ReferenceQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long retainedWeight;
+
+    public FieldRegistry(long maximumWeight){
+        this.maximumWeight = Math.max(0, maximumWeight);
+    }
+
+    public static FieldRegistry getShared(){
+        return SHARED;
+    }
+
+    public GaloisFieldExtension get(GaloisField galoisField, Polynomial polynomial)
+            throws IllegalArgumentException{
+        return get(galoisField, polynomial, ExtensionMode.OPERATION_MATRIX);
+    }
+
+    public GaloisFieldExtension get(GaloisField galoisField, Polynomial polynomial, ExtensionMode mode)
+            throws IllegalArgumentException{
+        if(Objects.isNull(galoisField)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.FIELD_IS_NULL);
+        }
+        if(Objects.isNull(polynomial)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.POLYNOMIAL_IS_NULL);
+        }
+        if(Objects.isNull(mode)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.MODE_IS_NULL);
+        }
+        expunge();
+        Key key = new Key(galoisField, polynomial, mode);
+        while(true){
+            CompletableFuture<Entry> future = entries.get(key);
+            if(Objects.isNull(future)){
+                CompletableFuture<Entry> created = new CompletableFuture<>();
+                future = entries.putIfAbsent(key, created);
+                if(Objects.isNull(future)){
+                    misses.increment();
+                    return build(key, created, galoisField, polynomial, mode);
+                }
+            }
+            GaloisFieldExtension extension = await(future).get();
+            if(Objects.nonNull(extension)){
+                hits.increment();
+                retain(key, extension);
+                return extension;
+            }
+            entries.remove(key, future);
+        }
+    }
+
+    public long getHitCount(){
+        return hits.sum();
+    }
+
+    public long getMissCount(){
+        return misses.sum();
+    }
+
+    public long getEvictionCount(){
+        return evictions.sum();
+    }
+
+    public long getRetainedWeight(){
+        synchronized (retained){
+            return retainedWeight;
+        }
+    }
+
+    public int size(){
+        expunge();
+        return entries.size();
+    }
+
+    public void clear(){
+        synchronized (retained){
+            retained.clear();
+            retainedWeight = 0;
+        }
+        entries.clear();
+    }
+
+    static long weightOf(GaloisFieldExtension extension){
+        long degree = extension.getDegree();
+        if(extension.getMode() == ExtensionMode.TABLE_FREE){
+            return (degree + 1) * Integer.BYTES;
+        }
+        long order = extension.getCharacteristic();
+        long elements = order * (degree * Integer.BYTES + 2L * Long.BYTES);
+        return extension.getMode() == ExtensionMode.LOG_TABLE
+                ? elements + 2 * order * Integer.BYTES
+                : elements + 2 * order * order * OperationTable.widthOf((int) order);
+    }
+
+    private GaloisFieldExtension build(Key key, CompletableFuture<Entry> future, GaloisField galoisField,
+                                       Polynomial polynomial, ExtensionMode mode){
+        GaloisFieldExtension extension;
+        try{
+            extension = new GaloisFieldExtension(galoisField, polynomial, mode);
+        }catch(RuntimeException e){
+            entries.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+        future.complete(new Entry(key, extension, collected));
+        retain(key, extension);
+        return extension;
+    }
+
+    private Entry await(CompletableFuture<Entry> future){
+        try{
+            return future.join();
+        }catch(CompletionException e){
+            if(e.getCause() instanceof RuntimeException cause){
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void retain(Key key, GaloisFieldExtension extension){
+        long weight = weightOf(extension);
+        if(weight > maximumWeight){
+            return;
+        }
+        synchronized (retained){
+            if(Objects.nonNull(retained.putIfAbsent(key, extension))){
+                return;
+            }
+            retainedWeight += weight;
+            Iterator<GaloisFieldExtension> eldest = retained.values().iterator();
+            while(retainedWeight > maximumWeight && eldest.hasNext()){
+                retainedWeight -= weightOf(eldest.next());
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private void expunge(){
+        for(Object reference = collected.poll(); Objects.nonNull(reference); reference = collected.poll()){
+            Entry entry = (Entry) reference;
+            entries.computeIfPresent(entry.key, (key, future) -> future.getNow(null) == entry ? null : future);
+        }
+    }
+
+    private static final class Entry extends WeakReference<GaloisFieldExtension> {
+        private final Key key;
+
+        private Entry(Key key, GaloisFieldExtension extension, ReferenceQueue<GaloisFieldExtension> queue){
+            super(extension, queue);
+            this.key = key;
+        }
+    }
+
+    private static final class Key {
+        private final int characteristic;
+        private final int[] coefficients;
+        private final ExtensionMode mode;
+
+        private Key(GaloisField galoisField, Polynomial polynomial, ExtensionMode mode){
+            this.characteristic = galoisField.getCharacteristic();
+            int[] reduced = polynomial.getCoefficients();
+            int length = 0;
+            for(int i = 0; i < reduced.length; i ++){
+                reduced[i] = galoisField.bringToField(reduced[i]);
+                if(reduced[i] != 0){
+                    length = i + 1;
+                }
+            }
+            this.coefficients = Arrays.copyOf(reduced, length);
+            this.mode = mode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return characteristic == key.characteristic && Arrays.equals(coefficients, key.coefficients)
+                    && mode == key.mode;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * characteristic + Arrays.hashCode(coefficients)) + mode.hashCode();
+        }
+    }
+}
@@ -1,18 +1,28 @@
 package dstu.csae.galois.extended;
 
 import dstu.csae.exceptions.ExceptionMessageConstants;
-import dstu.csae.galois.Field;
 import dstu.csae.galois.GaloisField;
+import dstu.csae.galois.IntField;
+import dstu.csae.galois.Interpolator;
+import dstu.csae.galois.SparseReducer;
 import dstu.csae.index.Index;
+import dstu.csae.math.ArithmeticFunctions;
 import dstu.csae.polynomial.Polynomial;
 import lombok.Getter;
 
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.IntStream;
 
-public class GaloisFieldExtension implements Field {
+public class GaloisFieldExtension implements IntField {
 
     public final Polynomial ZERO;
     public final Polynomial ONE;
@@ -22,19 +32,42 @@ public class GaloisFieldExtension implements Field {
     private final int degree;
     @Getter
     private final Polynomial polynomial;
-    @Getter private final ArrayList<Polynomial> elements;
-    final int[][] additionMatrix;
-    final  int[][] multiplicationMatrix;
+    private final List<Polynomial> elements;
+    @Getter
+    private final ExtensionMode mode;
+    @Getter
+    private final BigInteger order;
+    final int[] modulus;
+    final int leadInverse;
+    final SparseReducer reducer;
+    final OperationTable additionMatrix;
+    final OperationTable multiplicationMatrix;
+    final int[] exponents;
+    final int[] logarithms;
+    private volatile List<BigInteger> groupOrderDivisors;
 
 
     public GaloisFieldExtension(GaloisField galoisField, Polynomial polynomial)
         throws IllegalArgumentException{
+        this(galoisField, polynomial, ExtensionMode.OPERATION_MATRIX);
+    }
+
+    public GaloisFieldExtension(GaloisField galoisField, Polynomial polynomial, ExtensionMode mode)
+        throws IllegalArgumentException{
+        this(galoisField, polynomial, mode, null);
+    }
+
+    public GaloisFieldExtension(GaloisField galoisField, Polynomial polynomial, ExtensionMode mode, Path tableFile)
+        throws IllegalArgumentException, UncheckedIOException{
         if(Objects.isNull(galoisField)){
             throw new IllegalArgumentException(ExceptionMessageConstants.FIELD_IS_NULL);
         }
         if(Objects.isNull(polynomial)){
             throw new IllegalArgumentException(ExceptionMessageConstants.POLYNOMIAL_IS_NULL);
         }
+        if(Objects.isNull(mode)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.MODE_IS_NULL);
+        }
         if(!galoisField.isIrreducible(polynomial)){
             throw new IllegalArgumentException(
                     String.format(ExceptionMessageConstants.POLYNOMIAL_IS_REDUCIBLE,
@@ -43,34 +76,106 @@ public class GaloisFieldExtension implements Field {
         this.galoisField = galoisField;
         this.polynomial = polynomial;
         this.degree = polynomial.getDegree();
-        elements = generateElements();
-        ZERO = elements.get(0);
-        ONE = elements.get(1);
-        additionMatrix = generateAdditionMatrix();
-        multiplicationMatrix = generateMultiplicationMatrix();
+        this.mode = mode;
+        this.order = BigInteger.valueOf(galoisField.getCharacteristic()).pow(degree);
+        modulus = generateModulus();
+        leadInverse = galoisField.inverseOfMultiplication(modulus[degree]);
+        reducer = SparseReducer.of(galoisField, new Polynomial(modulus)).orElse(null);
+        if(mode != ExtensionMode.TABLE_FREE && order.bitLength() >= Integer.SIZE
+                || mode == ExtensionMode.OPERATION_MATRIX && !OperationTable.fits(order.longValue())){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.FIELD_IS_TOO_LARGE,
+                            toString(galoisField, degree, polynomial), mode));
+        }
+        elements = mode == ExtensionMode.TABLE_FREE ? generateElementView() : Collections.unmodifiableList(generateElements());
+        ZERO = mode == ExtensionMode.TABLE_FREE ? generateElement(0) : elements.get(0);
+        ONE = mode == ExtensionMode.TABLE_FREE ? generateElement(1) : elements.get(1);
+        ByteBuffer[] persisted = Objects.isNull(tableFile) ? null : TableFileOperations.read(tableFile, this);
+        switch (mode){
+            case LOG_TABLE -> {
+                additionMatrix = null;
+                multiplicationMatrix = null;
+                exponents = Objects.isNull(persisted)
+                        ? generateExponents() : TableFileOperations.toArray(persisted[0]);
+                logarithms = Objects.isNull(persisted)
+                        ? generateLogarithms(exponents) : TableFileOperations.toArray(persisted[1]);
+            }
+            case TABLE_FREE -> {
+                additionMatrix = null;
+                multiplicationMatrix = null;
+                exponents = null;
+                logarithms = null;
+            }
+            default -> {
+                additionMatrix = Objects.isNull(persisted)
+                        ? generateAdditionMatrix() : TableFileOperations.toTable(persisted[0], getCharacteristic());
+                multiplicationMatrix = Objects.isNull(persisted)
+                        ? generateMultiplicationMatrix() : TableFileOperations.toTable(persisted[1], getCharacteristic());
+                exponents = null;
+                logarithms = null;
+            }
+        }
+        if(Objects.nonNull(tableFile) && Objects.isNull(persisted)){
+            TableFileOperations.write(tableFile, this);
+        }
     }
 
     public int getCharacteristic(){
-        return elements.size();
+        if(order.bitLength() >= Integer.SIZE){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.FIELD_IS_TOO_LARGE, this, mode));
+        }
+        return order.intValue();
+    }
+
+    public List<Polynomial> getElements(){
+        if(Objects.isNull(elements)){
+            throw new UnsupportedOperationException(
+                    String.format(ExceptionMessageConstants.FIELD_IS_TOO_LARGE, this, mode));
+        }
+        return elements;
     }
 
     public Polynomial get(int index){
         if(!isInBounds(index)){
             return null;
         }
-        return elements.get(index);
+        return Objects.isNull(elements) ? generateElement(index) : elements.get(index);
     }
 
     public int indexOf(Polynomial polynomial){
-        if(!isInField(polynomial)){
+        if(Objects.isNull(polynomial)){
             return -1;
         }
-        return elements.indexOf(polynomial);
+        return CoefficientOperations.encode(polynomial, galoisField.getCharacteristic(), degree);
+    }
+
+    private List<Polynomial> generateElementView(){
+        if(order.bitLength() >= Integer.SIZE){
+            return null;
+        }
+        int elementCount = order.intValue();
+        return new AbstractList<>() {
+            @Override
+            public Polynomial get(int index) {
+                Objects.checkIndex(index, elementCount);
+                return generateElement(index);
+            }
+
+            @Override
+            public int size() {
+                return elementCount;
+            }
+        };
+    }
+
+    private Polynomial generateElement(int index){
+        return new Polynomial(CoefficientOperations.decode(index, galoisField.getCharacteristic(), degree));
     }
 
     private ArrayList<Polynomial> generateElements(){
         int characteristic = galoisField.getCharacteristic();
-        int elementCount = (int)Math.pow(galoisField.getCharacteristic(), degree);
+        int elementCount = order.intValue();
         int[][] coefficients = new int[elementCount][degree];
         int period = 1;
         int currentDegree = 0;
@@ -93,31 +198,69 @@ public class GaloisFieldExtension implements Field {
         return elements;
     }
 
-    private int[][] generateAdditionMatrix(){
-        int[][] additionMatrix = new int[elements.size()][elements.size()];
+    private int[] generateModulus(){
+        Polynomial reduced = galoisField.bringToField(polynomial).orElse(polynomial);
+        int[] modulus = new int[degree + 1];
+        for(int i = 0; i <= degree; i ++){
+            modulus[i] = reduced.get(i);
+        }
+        return modulus;
+    }
+
+    private int[] generateExponents(){
+        int characteristic = galoisField.getCharacteristic();
+        int order = getCharacteristic() - 1;
+        for(int candidate = 1; candidate <= order; candidate ++){
+            if(!ExtendedFieldOperations.isPrimitive(this,
+                    CoefficientOperations.decode(candidate, characteristic, degree))){
+                continue;
+            }
+            int[] powers = CoefficientOperations.powers(candidate, modulus, characteristic, leadInverse, order,
+                    reducer);
+            if(powers != null){
+                return powers;
+            }
+        }
+        throw new IllegalArgumentException(
+                String.format(ExceptionMessageConstants.POLYNOMIAL_IS_REDUCIBLE,
+                        polynomial, galoisField));
+    }
+
+    private int[] generateLogarithms(int[] exponents){
+        int[] logarithms = new int[exponents.length + 1];
+        logarithms[0] = -1;
+        for(int k = 0; k < exponents.length; k ++){
+            logarithms[exponents[k]] = k;
+        }
+        return logarithms;
+    }
+
+    private OperationTable generateAdditionMatrix(){
+        int characteristic = galoisField.getCharacteristic();
+        OperationTable additionMatrix = OperationTable.allocate(elements.size());
         for(int i = 0; i < elements.size(); i ++){
-            for(int j = 0; j < elements.size(); j ++){
-                Optional<Polynomial> addition = galoisField.add(elements.get(i), elements.get(j));
-                if(addition.isPresent()){
-                    Polynomial added = addition.get();
-                    added = galoisField.mod(added, polynomial).orElse(Polynomial.ZERO);
-                    additionMatrix[i][j] = elements.indexOf(added);
-                }
+            for(int j = i; j < elements.size(); j ++){
+                int index = CoefficientOperations.addition(i, j, characteristic);
+                additionMatrix.set(i, j, index);
+                additionMatrix.set(j, i, index);
             }
         }
         return additionMatrix;
     }
 
-    private int[][] generateMultiplicationMatrix(){
-        int[][] multiplicationMatrix = new int[elements.size()][elements.size()];
+    private OperationTable generateMultiplicationMatrix(){
+        int characteristic = galoisField.getCharacteristic();
+        int[][] coefficients = new int[elements.size()][];
+        for(int i = 0; i < coefficients.length; i ++){
+            coefficients[i] = CoefficientOperations.decode(i, characteristic, degree);
+        }
+        OperationTable multiplicationMatrix = OperationTable.allocate(elements.size());
         for(int i = 0; i < elements.size(); i ++){
-            for(int j = 0; j < elements.size(); j ++){
-                Optional<Polynomial> multiplication = galoisField.multiply(elements.get(i), elements.get(j));
-                if(multiplication.isPresent()){
-                    Polynomial multiplied = multiplication.get();
-                    multiplied = galoisField.mod(multiplied, polynomial).orElse(Polynomial.ONE);
-                    multiplicationMatrix[i][j] = elements.indexOf(multiplied);
-                }
+            for(int j = i; j < elements.size(); j ++){
+                int index = CoefficientOperations.encode(CoefficientOperations.multiplication(coefficients[i],
+                        coefficients[j], modulus, characteristic, leadInverse, reducer), characteristic);
+                multiplicationMatrix.set(i, j, index);
+                multiplicationMatrix.set(j, i, index);
             }
         }
         return multiplicationMatrix;
@@ -128,11 +271,9 @@ public class GaloisFieldExtension implements Field {
             return false;
         }
 
-        int characteristic = this.getCharacteristic();
-
         for (int i = 0; i <= p.getDegree(); i++) {
             int coeff = p.get(i);
-            if (coeff < 0 || coeff >= characteristic) {
+            if (coeff < 0 || order.compareTo(BigInteger.valueOf(coeff)) <= 0) {
                 return false;
             }
         }
@@ -140,18 +281,52 @@ public class GaloisFieldExtension implements Field {
         return true;
     }
 
-    public Polynomial findFirstPrimitive() {
-        for (int i = 1; i < this.elements.size(); i++) {
-            Polynomial candidate = this.elements.get(i);
-            if (this.isPrimitive(candidate)) {
-                return candidate;
+    public void writeTables(Path tableFile)
+            throws IllegalArgumentException, UncheckedIOException{
+        if(Objects.isNull(tableFile)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.PATH_IS_NULL);
+        }
+        TableFileOperations.write(tableFile, this);
+    }
+
+    public List<BigInteger> getGroupOrderDivisors(){
+        List<BigInteger> divisors = groupOrderDivisors;
+        if(divisors == null){
+            synchronized (this){
+                divisors = groupOrderDivisors;
+                if(divisors == null){
+                    divisors = ArithmeticFunctions.getPrimeDivisors(order.subtract(BigInteger.ONE));
+                    groupOrderDivisors = divisors;
+                }
             }
         }
-        return null;
+        return divisors;
+    }
+
+    public Polynomial findFirstPrimitive() {
+        int index = findFirstIntPrimitive();
+        return index < 0 ? null : get(index);
     }
 
     public int findFirstIntPrimitive(){
-        return indexOf(findFirstPrimitive());
+        int limit = order.min(BigInteger.valueOf(Integer.MAX_VALUE)).intValue();
+        for(int i = 1; i < limit; i ++){
+            if(isPrimitive(i)){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int[] findAllIntPrimitive(){
+        if(order.bitLength() >= Integer.SIZE){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.FIELD_IS_TOO_LARGE, this, mode));
+        }
+        return IntStream.range(1, order.intValue())
+                .parallel()
+                .filter(this::isPrimitive)
+                .toArray();
     }
 
     public int add(int first, int second){
@@ -200,7 +375,7 @@ public class GaloisFieldExtension implements Field {
 
     public Polynomial bringToField(Polynomial p){
         return Optional.ofNullable(ExtendedFieldOperations.bringToField(this, p))
-                .orElse(get(0));
+                .orElse(ZERO);
     }
 
     public int inverseOfAddition(int element){
@@ -219,11 +394,55 @@ public class GaloisFieldExtension implements Field {
         return Optional.ofNullable(ExtendedFieldOperations.inverseOfMultiplication(this, polynomial));
     }
 
+    public void invertAll(int[] in, int[] out)
+            throws IllegalArgumentException{
+        ExtendedFieldOperations.inverseOfMultiplication(this, in, out);
+    }
+
+    public int evaluate(Polynomial polynomial, int x)
+            throws IllegalArgumentException{
+        return ExtendedFieldOperations.evaluate(this, polynomial, x);
+    }
+
+    public void evaluateAll(Polynomial polynomial, int[] points, int[] out)
+            throws IllegalArgumentException{
+        ExtendedFieldOperations.evaluate(this, polynomial, points, out);
+    }
+
+    public Polynomial interpolate(int[] points, int[] values)
+            throws IllegalArgumentException{
+        return new Interpolator(this, points).interpolate(values);
+    }
+
+    public void multiplyRegion(int coefficient, byte[] source, int sourceOffset,
+                               byte[] destination, int destinationOffset, int length)
+            throws IllegalArgumentException{
+        RegionOperations.multiplication(this, coefficient,
+                source, sourceOffset, destination, destinationOffset, length, false);
+    }
+
+    public void multiplyRegion(int coefficient, ByteBuffer source, ByteBuffer destination)
+            throws IllegalArgumentException{
+        RegionOperations.multiplication(this, coefficient, source, destination, false);
+    }
+
+    public void multiplyAccumulateRegion(int coefficient, byte[] source, int sourceOffset,
+                                         byte[] destination, int destinationOffset, int length)
+            throws IllegalArgumentException{
+        RegionOperations.multiplication(this, coefficient,
+                source, sourceOffset, destination, destinationOffset, length, true);
+    }
+
+    public void multiplyAccumulateRegion(int coefficient, ByteBuffer source, ByteBuffer destination)
+            throws IllegalArgumentException{
+        RegionOperations.multiplication(this, coefficient, source, destination, true);
+    }
+
     public boolean isInField(Polynomial polynomial){
         if(Objects.isNull(polynomial)){
             return false;
         }
-        return elements.contains(polynomial);
+        return CoefficientOperations.isCanonical(polynomial, galoisField.getCharacteristic(), degree);
     }
 
     public boolean isInBounds(int index){
@@ -252,6 +471,10 @@ public class GaloisFieldExtension implements Field {
 
     @Override
     public String toString() {
+        return toString(galoisField, degree, polynomial);
+    }
+
+    private static String toString(GaloisField galoisField, int degree, Polynomial polynomial){
         return String.format("GF(%s%s)(%s)",
                 galoisField.getCharacteristic(),
                 Index.toSuperscript(String.valueOf(degree)),
@@ -0,0 +1,107 @@
+package dstu.csae.galois.extended;
+
+import java.nio.ByteBuffer;
+
+abstract class OperationTable {
+
+    static final long MAX_LENGTH = Integer.MAX_VALUE - 8;
+    private static final int BYTE_LIMIT = 1 << Byte.SIZE;
+
+    final int size;
+
+    private OperationTable(int size){
+        this.size = size;
+    }
+
+    static OperationTable allocate(int size){
+        return size <= BYTE_LIMIT ? new ByteTable(size) : new CharTable(size);
+    }
+
+    static int widthOf(int size){
+        return size <= BYTE_LIMIT ? Byte.BYTES : Character.BYTES;
+    }
+
+    static boolean fits(long size){
+        return size * size <= MAX_LENGTH;
+    }
+
+    final int get(int row, int column){
+        return get(row * size + column);
+    }
+
+    final void set(int row, int column, int value){
+        set(row * size + column, value);
+    }
+
+    final int length(){
+        return size * size;
+    }
+
+    abstract int get(int index);
+
+    abstract void set(int index, int value);
+
+    abstract int width();
+
+    abstract void read(ByteBuffer buffer);
+
+    private static final class ByteTable extends OperationTable {
+
+        private final byte[] data;
+
+        private ByteTable(int size){
+            super(size);
+            data = new byte[size * size];
+        }
+
+        @Override
+        int get(int index){
+            return data[index] & 0xFF;
+        }
+
+        @Override
+        void set(int index, int value){
+            data[index] = (byte) value;
+        }
+
+        @Override
+        int width(){
+            return Byte.BYTES;
+        }
+
+        @Override
+        void read(ByteBuffer buffer){
+            buffer.get(data);
+        }
+    }
+
+    private static final class CharTable extends OperationTable {
+
+        private final char[] data;
+
+        private CharTable(int size){
+            super(size);
+            data = new char[size * size];
+        }
+
+        @Override
+        int get(int index){
+            return data[index];
+        }
+
+        @Override
+        void set(int index, int value){
+            data[index] = (char) value;
+        }
+
+        @Override
+        int width(){
+            return Character.BYTES;
+        }
+
+        @Override
+        void read(ByteBuffer buffer){
+            buffer.asCharBuffer().get(data);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package dstu.csae.galois.extended;
+
+import dstu.csae.exceptions.ExceptionMessageConstants;
+import dstu.csae.galois.GaloisField;
+import dstu.csae.polynomial.Polynomial;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class PolynomialCatalog {
+
+    static final String RESOURCE = "polynomials.bin";
+    private static final int MAGIC = 0x47465043;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 3 * Integer.BYTES;
+    private static final int RECORD_SIZE = 2 * Integer.BYTES;
+    private static final int TERM_SIZE = Byte.BYTES + Short.BYTES;
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).putInt(0);
+    private static final Map<Long, Polynomial> SEARCHED = new ConcurrentHashMap<>();
+
+    private PolynomialCatalog(){}
+
+    public static Optional<Polynomial> find(int characteristic, int degree, PolynomialKind kind)
+            throws IllegalArgumentException{
+        if(Objects.isNull(kind)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.POLYNOMIAL_KIND_IS_NULL);
+        }
+        if(characteristic < 2 || characteristic > 0xFFFF || degree < 1 || degree > 0xFF){
+            return Optional.empty();
+        }
+        ByteBuffer catalog = Catalog.BUFFER;
+        int key = (characteristic << 16) | (degree << 8) | kind.ordinal();
+        int low = 0;
+        int high = catalog.getInt(2 * Integer.BYTES) - 1;
+        while(low <= high){
+            int middle = (low + high) >>> 1;
+            int record = catalog.getInt(HEADER_SIZE + middle * RECORD_SIZE);
+            if(record < key){
+                low = middle + 1;
+            }else if(record > key){
+                high = middle - 1;
+            }else{
+                return Optional.of(read(catalog,
+                        catalog.getInt(HEADER_SIZE + middle * RECORD_SIZE + Integer.BYTES), degree));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static Polynomial getModulus(int characteristic, int degree)
+            throws IllegalArgumentException{
+        Optional<Polynomial> catalogued = find(characteristic, degree, PolynomialKind.PRIMITIVE);
+        if(catalogued.isPresent()){
+            return catalogued.get();
+        }
+        GaloisField galoisField = new GaloisField(characteristic);
+        return SEARCHED.computeIfAbsent(((long) characteristic << Integer.SIZE) | degree,
+                key -> galoisField.findPrimitivePolynomial(degree).orElseThrow());
+    }
+
+    public static GaloisFieldExtension createExtension(int characteristic, int degree)
+            throws IllegalArgumentException{
+        return createExtension(characteristic, degree, ExtensionMode.OPERATION_MATRIX);
+    }
+
+    public static GaloisFieldExtension createExtension(int characteristic, int degree, ExtensionMode mode)
+            throws IllegalArgumentException{
+        Polynomial modulus = getModulus(characteristic, degree);
+        return FieldRegistry.getShared().get(new GaloisField(characteristic), modulus, mode);
+    }
+
+    private static Polynomial read(ByteBuffer catalog, int offset, int degree){
+        int[] coefficients = new int[degree + 1];
+        int terms = Byte.toUnsignedInt(catalog.get(offset));
+        for(int i = 0; i < terms; i ++){
+            int position = offset + Byte.BYTES + i * TERM_SIZE;
+            coefficients[Byte.toUnsignedInt(catalog.get(position))] =
+                    Short.toUnsignedInt(catalog.getShort(position + Byte.BYTES));
+        }
+        return new Polynomial(coefficients);
+    }
+
+    private static ByteBuffer load(){
+        URL url = PolynomialCatalog.class.getResource(RESOURCE);
+        if(Objects.isNull(url)){
+            return EMPTY;
+        }
+        try{
+            if("file".equals(url.getProtocol())){
+                try(FileChannel channel = FileChannel.open(Path.of(url.toURI()), StandardOpenOption.READ)){
+                    return validate(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+                }
+            }
+            try(InputStream stream = url.openStream()){
+                return validate(ByteBuffer.wrap(stream.readAllBytes()));
+            }
+        }catch(IOException | URISyntaxException e){
+            return EMPTY;
+        }
+    }
+
+    private static ByteBuffer validate(ByteBuffer catalog){
+        if(catalog.capacity() < HEADER_SIZE || catalog.getInt(0) != MAGIC || catalog.getInt(Integer.BYTES) != VERSION){
+            return EMPTY;
+        }
+        long records = catalog.getInt(2 * Integer.BYTES);
+        if(records < 0 || HEADER_SIZE + records * RECORD_SIZE > catalog.capacity()){
+            return EMPTY;
+        }
+        return catalog;
+    }
+
+    private static final class Catalog {
+        static final ByteBuffer BUFFER = load();
+    }
+}
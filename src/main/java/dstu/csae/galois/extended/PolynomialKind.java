@@ -0,0 +1,7 @@
+package dstu.csae.galois.extended;
+
+public enum PolynomialKind {
+    IRREDUCIBLE,
+    PRIMITIVE,
+    CONWAY
+}
@@ -0,0 +1,158 @@
+package dstu.csae.galois.extended;
+
+import dstu.csae.exceptions.ExceptionMessageConstants;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+class RegionOperations {
+
+    static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    private static final int BYTE_DEGREE = Byte.SIZE;
+    private static final int SHORT_DEGREE = Short.SIZE;
+    private static final int NIBBLE_COUNT = 16;
+
+    static void multiplication(GaloisFieldExtension galoisFieldExtension, int coefficient,
+                               byte[] source, int sourceOffset,
+                               byte[] destination, int destinationOffset,
+                               int length, boolean accumulate)
+            throws IllegalArgumentException{
+        if(Objects.isNull(source) || Objects.isNull(destination)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.ARRAY_IS_NULL);
+        }
+        checkField(galoisFieldExtension, length);
+        Objects.checkFromIndexSize(sourceOffset, length, source.length);
+        Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+        int[][] nibbleTables = nibbleTables(galoisFieldExtension, coefficient);
+        if(galoisFieldExtension.getDegree() == SHORT_DEGREE){
+            char[][] byteTables = shortTables(nibbleTables);
+            for(int i = 0; i < length; i += 2){
+                int product = byteTables[0][source[sourceOffset + i] & 0xFF]
+                        ^ byteTables[1][source[sourceOffset + i + 1] & 0xFF];
+                store(destination, destinationOffset + i, product, accumulate);
+            }
+            return;
+        }
+        int start = 0;
+        if(VECTORIZED && VectorRegionOperations.isSupported()){
+            start = VectorRegionOperations.multiplication(
+                    toBytes(nibbleTables[0]), toBytes(nibbleTables[1]),
+                    source, sourceOffset, destination, destinationOffset, length, accumulate);
+        }
+        byte[] table = byteTable(nibbleTables);
+        for(int i = start; i < length; i ++){
+            byte product = table[source[sourceOffset + i] & 0xFF];
+            destination[destinationOffset + i] = accumulate
+                    ? (byte) (destination[destinationOffset + i] ^ product)
+                    : product;
+        }
+    }
+
+    static void multiplication(GaloisFieldExtension galoisFieldExtension, int coefficient,
+                               ByteBuffer source, ByteBuffer destination, boolean accumulate)
+            throws IllegalArgumentException{
+        if(Objects.isNull(source) || Objects.isNull(destination)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.BUFFER_IS_NULL);
+        }
+        int length = source.remaining();
+        if(destination.remaining() < length){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.ARRAY_LENGTH_MISMATCH, destination.remaining(), length));
+        }
+        if(destination.isReadOnly()){
+            throw new IllegalArgumentException(ExceptionMessageConstants.BUFFER_IS_READ_ONLY);
+        }
+        if(source.hasArray() && destination.hasArray()){
+            multiplication(galoisFieldExtension, coefficient,
+                    source.array(), source.arrayOffset() + source.position(),
+                    destination.array(), destination.arrayOffset() + destination.position(),
+                    length, accumulate);
+            return;
+        }
+        checkField(galoisFieldExtension, length);
+        int[][] nibbleTables = nibbleTables(galoisFieldExtension, coefficient);
+        int sourcePosition = source.position();
+        int destinationPosition = destination.position();
+        if(galoisFieldExtension.getDegree() == SHORT_DEGREE){
+            char[][] byteTables = shortTables(nibbleTables);
+            for(int i = 0; i < length; i += 2){
+                int product = byteTables[0][source.get(sourcePosition + i) & 0xFF]
+                        ^ byteTables[1][source.get(sourcePosition + i + 1) & 0xFF];
+                if(accumulate){
+                    product ^= (destination.get(destinationPosition + i) & 0xFF)
+                            | (destination.get(destinationPosition + i + 1) & 0xFF) << Byte.SIZE;
+                }
+                destination.put(destinationPosition + i, (byte) product);
+                destination.put(destinationPosition + i + 1, (byte) (product >>> Byte.SIZE));
+            }
+            return;
+        }
+        byte[] table = byteTable(nibbleTables);
+        for(int i = 0; i < length; i ++){
+            byte product = table[source.get(sourcePosition + i) & 0xFF];
+            if(accumulate){
+                product ^= destination.get(destinationPosition + i);
+            }
+            destination.put(destinationPosition + i, product);
+        }
+    }
+
+    private static void checkField(GaloisFieldExtension galoisFieldExtension, int length){
+        int degree = galoisFieldExtension.getDegree();
+        if(galoisFieldExtension.getGaloisField().getCharacteristic() != 2
+                || (degree != BYTE_DEGREE && degree != SHORT_DEGREE)){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.FIELD_IS_NOT_REGION_COMPATIBLE, galoisFieldExtension));
+        }
+        if(degree == SHORT_DEGREE && length % 2 != 0){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.REGION_LENGTH_IS_ODD, length));
+        }
+    }
+
+    private static int[][] nibbleTables(GaloisFieldExtension galoisFieldExtension, int coefficient){
+        int nibbleCount = galoisFieldExtension.getDegree() / 4;
+        int[][] tables = new int[nibbleCount][NIBBLE_COUNT];
+        for(int k = 0; k < nibbleCount; k ++){
+            for(int nibble = 1; nibble < NIBBLE_COUNT; nibble ++){
+                tables[k][nibble] = galoisFieldExtension.multiply(coefficient, nibble << (4 * k));
+            }
+        }
+        return tables;
+    }
+
+    private static byte[] byteTable(int[][] nibbleTables){
+        byte[] table = new byte[1 << Byte.SIZE];
+        for(int value = 0; value < table.length; value ++){
+            table[value] = (byte) (nibbleTables[0][value & 0x0F] ^ nibbleTables[1][value >>> 4]);
+        }
+        return table;
+    }
+
+    private static char[][] shortTables(int[][] nibbleTables){
+        char[][] tables = new char[2][1 << Byte.SIZE];
+        for(int half = 0; half < 2; half ++){
+            for(int value = 0; value < tables[half].length; value ++){
+                tables[half][value] = (char) (nibbleTables[2 * half][value & 0x0F]
+                        ^ nibbleTables[2 * half + 1][value >>> 4]);
+            }
+        }
+        return tables;
+    }
+
+    private static byte[] toBytes(int[] table){
+        byte[] bytes = new byte[table.length];
+        for(int i = 0; i < table.length; i ++){
+            bytes[i] = (byte) table[i];
+        }
+        return bytes;
+    }
+
+    private static void store(byte[] destination, int offset, int product, boolean accumulate){
+        if(accumulate){
+            product ^= (destination[offset] & 0xFF) | (destination[offset + 1] & 0xFF) << Byte.SIZE;
+        }
+        destination[offset] = (byte) product;
+        destination[offset + 1] = (byte) (product >>> Byte.SIZE);
+    }
+}
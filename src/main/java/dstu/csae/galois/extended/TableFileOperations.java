@@ -0,0 +1,202 @@
+package dstu.csae.galois.extended;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+final class TableFileOperations {
+
+    static final int MAGIC = 0x47465442;
+    static final int VERSION = 2;
+    private static final int CHECKSUM_OFFSET = 2 * Integer.BYTES;
+    private static final int PAYLOAD_OFFSET = CHECKSUM_OFFSET + Long.BYTES;
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private TableFileOperations(){}
+
+    static ByteBuffer[] read(Path path, GaloisFieldExtension galoisFieldExtension){
+        int[] lengths = tableLengths(galoisFieldExtension);
+        int[] widths = tableWidths(galoisFieldExtension);
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)){
+            long size = channel.size();
+            if(size != fileSize(galoisFieldExtension, lengths, widths) || size > Integer.MAX_VALUE){
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if(buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION){
+                return null;
+            }
+            CRC32C checksum = new CRC32C();
+            checksum.update(buffer.slice(PAYLOAD_OFFSET, (int) size - PAYLOAD_OFFSET));
+            if(buffer.getLong(CHECKSUM_OFFSET) != checksum.getValue()){
+                return null;
+            }
+            int[] expected = header(galoisFieldExtension, lengths, widths);
+            int[] header = new int[expected.length];
+            buffer.slice(PAYLOAD_OFFSET, header.length * Integer.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(header);
+            if(!Arrays.equals(header, expected)){
+                return null;
+            }
+            ByteBuffer[] tables = new ByteBuffer[lengths.length];
+            int offset = PAYLOAD_OFFSET + header.length * Integer.BYTES;
+            for(int i = 0; i < tables.length; i ++){
+                int length = lengths[i] * widths[i];
+                tables[i] = buffer.slice(offset, length).order(ByteOrder.LITTLE_ENDIAN);
+                offset += length;
+            }
+            return tables;
+        }catch(NoSuchFileException e){
+            return null;
+        }catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void write(Path path, GaloisFieldExtension galoisFieldExtension){
+        int[] lengths = tableLengths(galoisFieldExtension);
+        int[] widths = tableWidths(galoisFieldExtension);
+        Path absolute = path.toAbsolutePath();
+        Path temporary = null;
+        try{
+            temporary = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+            try(FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)){
+                ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                CRC32C checksum = new CRC32C();
+                channel.position(PAYLOAD_OFFSET);
+                for(int value : header(galoisFieldExtension, lengths, widths)){
+                    put(channel, chunk, checksum, value, Integer.BYTES);
+                }
+                if(galoisFieldExtension.getMode() == ExtensionMode.OPERATION_MATRIX){
+                    for(OperationTable table : new OperationTable[]{
+                            galoisFieldExtension.additionMatrix, galoisFieldExtension.multiplicationMatrix}){
+                        for(int i = 0; i < table.length(); i ++){
+                            put(channel, chunk, checksum, table.get(i), table.width());
+                        }
+                    }
+                }
+                if(galoisFieldExtension.getMode() == ExtensionMode.LOG_TABLE){
+                    for(int[] table : new int[][]{galoisFieldExtension.exponents, galoisFieldExtension.logarithms}){
+                        for(int value : table){
+                            put(channel, chunk, checksum, value, Integer.BYTES);
+                        }
+                    }
+                }
+                flush(channel, chunk, checksum);
+                ByteBuffer prefix = ByteBuffer.allocate(PAYLOAD_OFFSET).order(ByteOrder.LITTLE_ENDIAN)
+                        .putInt(MAGIC).putInt(VERSION).putLong(checksum.getValue()).flip();
+                while(prefix.hasRemaining()){
+                    channel.write(prefix, prefix.position());
+                }
+                channel.force(true);
+            }
+            try{
+                Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }catch(AtomicMoveNotSupportedException e){
+                Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }catch(IOException e){
+            throw new UncheckedIOException(e);
+        }finally {
+            if(temporary != null){
+                try{
+                    Files.deleteIfExists(temporary);
+                }catch(IOException ignored){
+                }
+            }
+        }
+    }
+
+    static int[] toArray(ByteBuffer table){
+        int[] values = new int[table.remaining() / Integer.BYTES];
+        table.asIntBuffer().get(values);
+        return values;
+    }
+
+    static OperationTable toTable(ByteBuffer table, int size){
+        OperationTable operationTable = OperationTable.allocate(size);
+        operationTable.read(table);
+        return operationTable;
+    }
+
+    private static int[] header(GaloisFieldExtension galoisFieldExtension, int[] lengths, int[] widths){
+        int[] modulus = galoisFieldExtension.modulus;
+        int[] header = new int[4 + modulus.length + 2 * lengths.length];
+        header[0] = galoisFieldExtension.getMode().ordinal();
+        header[1] = galoisFieldExtension.getGaloisField().getCharacteristic();
+        header[2] = modulus.length;
+        System.arraycopy(modulus, 0, header, 3, modulus.length);
+        header[3 + modulus.length] = lengths.length;
+        for(int i = 0; i < lengths.length; i ++){
+            header[4 + modulus.length + 2 * i] = lengths[i];
+            header[5 + modulus.length + 2 * i] = widths[i];
+        }
+        return header;
+    }
+
+    private static int[] tableLengths(GaloisFieldExtension galoisFieldExtension){
+        return switch (galoisFieldExtension.getMode()){
+            case OPERATION_MATRIX -> {
+                int size = galoisFieldExtension.getCharacteristic();
+                yield new int[]{size * size, size * size};
+            }
+            case LOG_TABLE -> new int[]{galoisFieldExtension.getCharacteristic() - 1,
+                    galoisFieldExtension.getCharacteristic()};
+            case TABLE_FREE -> new int[0];
+        };
+    }
+
+    private static int[] tableWidths(GaloisFieldExtension galoisFieldExtension){
+        return switch (galoisFieldExtension.getMode()){
+            case OPERATION_MATRIX -> {
+                int width = OperationTable.widthOf(galoisFieldExtension.getCharacteristic());
+                yield new int[]{width, width};
+            }
+            case LOG_TABLE -> new int[]{Integer.BYTES, Integer.BYTES};
+            case TABLE_FREE -> new int[0];
+        };
+    }
+
+    private static long fileSize(GaloisFieldExtension galoisFieldExtension, int[] lengths, int[] widths){
+        long size = PAYLOAD_OFFSET
+                + (long) Integer.BYTES * (4 + galoisFieldExtension.modulus.length + 2 * lengths.length);
+        for(int i = 0; i < lengths.length; i ++){
+            size += (long) widths[i] * lengths[i];
+        }
+        return size;
+    }
+
+    private static void put(FileChannel channel, ByteBuffer chunk, CRC32C checksum, int value, int width)
+            throws IOException{
+        if(chunk.remaining() < width){
+            flush(channel, chunk, checksum);
+        }
+        switch (width){
+            case Byte.BYTES -> chunk.put((byte) value);
+            case Character.BYTES -> chunk.putChar((char) value);
+            default -> chunk.putInt(value);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer chunk, CRC32C checksum)
+            throws IOException{
+        chunk.flip();
+        checksum.update(chunk.duplicate());
+        while(chunk.hasRemaining()){
+            channel.write(chunk);
+        }
+        chunk.clear();
+    }
+}
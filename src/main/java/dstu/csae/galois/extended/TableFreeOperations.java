@@ -0,0 +1,130 @@
+package dstu.csae.galois.extended;
+
+import dstu.csae.polynomial.Polynomial;
+
+final class TableFreeOperations {
+
+    private TableFreeOperations(){}
+
+    static int addition(GaloisFieldExtension galoisFieldExtension, int first, int second){
+        int[] addition = CoefficientOperations.addition(
+                decode(galoisFieldExtension, first), decode(galoisFieldExtension, second), characteristic(galoisFieldExtension));
+        return encode(galoisFieldExtension, addition);
+    }
+
+    static Polynomial addition(GaloisFieldExtension galoisFieldExtension, Polynomial first, Polynomial second){
+        int[] addition = CoefficientOperations.addition(
+                coefficients(galoisFieldExtension, first), coefficients(galoisFieldExtension, second),
+                characteristic(galoisFieldExtension));
+        return new Polynomial(addition);
+    }
+
+    static Polynomial subtraction(GaloisFieldExtension galoisFieldExtension, Polynomial reduced, Polynomial subtracted){
+        int characteristic = characteristic(galoisFieldExtension);
+        int[] negation = CoefficientOperations.negation(coefficients(galoisFieldExtension, subtracted), characteristic);
+        return new Polynomial(CoefficientOperations.addition(
+                coefficients(galoisFieldExtension, reduced), negation, characteristic));
+    }
+
+    static int multiplication(GaloisFieldExtension galoisFieldExtension, int first, int second){
+        if(first == 0 || second == 0){
+            return 0;
+        }
+        return encode(galoisFieldExtension,
+                multiplication(galoisFieldExtension, decode(galoisFieldExtension, first), decode(galoisFieldExtension, second)));
+    }
+
+    static Polynomial multiplication(GaloisFieldExtension galoisFieldExtension, Polynomial first, Polynomial second){
+        return new Polynomial(multiplication(galoisFieldExtension,
+                coefficients(galoisFieldExtension, first), coefficients(galoisFieldExtension, second)));
+    }
+
+    static int division(GaloisFieldExtension galoisFieldExtension, int divisible, int divisor){
+        int[] inverse = inverse(galoisFieldExtension, decode(galoisFieldExtension, divisor));
+        if(inverse == null){
+            return -1;
+        }
+        return encode(galoisFieldExtension,
+                multiplication(galoisFieldExtension, decode(galoisFieldExtension, divisible), inverse));
+    }
+
+    static Polynomial division(GaloisFieldExtension galoisFieldExtension, Polynomial divisible, Polynomial divisor){
+        int[] inverse = inverse(galoisFieldExtension, coefficients(galoisFieldExtension, divisor));
+        if(inverse == null){
+            return null;
+        }
+        return new Polynomial(multiplication(galoisFieldExtension,
+                coefficients(galoisFieldExtension, divisible), inverse));
+    }
+
+    static int powMod(GaloisFieldExtension galoisFieldExtension, int index, int degree){
+        int[] base = decode(galoisFieldExtension, index);
+        if(degree < 0){
+            base = inverse(galoisFieldExtension, base);
+            if(base == null){
+                return -1;
+            }
+        }
+        return encode(galoisFieldExtension, CoefficientOperations.power(base, Math.abs((long) degree),
+                galoisFieldExtension.modulus, characteristic(galoisFieldExtension), galoisFieldExtension.leadInverse,
+                galoisFieldExtension.reducer));
+    }
+
+    static Polynomial powMod(GaloisFieldExtension galoisFieldExtension, Polynomial polynomial, int degree){
+        int[] base = coefficients(galoisFieldExtension, polynomial);
+        if(degree < 0){
+            base = inverse(galoisFieldExtension, base);
+            if(base == null){
+                return null;
+            }
+        }
+        return new Polynomial(CoefficientOperations.power(base, Math.abs((long) degree),
+                galoisFieldExtension.modulus, characteristic(galoisFieldExtension), galoisFieldExtension.leadInverse,
+                galoisFieldExtension.reducer));
+    }
+
+    static int inverseOfAddition(GaloisFieldExtension galoisFieldExtension, int index){
+        return CoefficientOperations.negation(index, characteristic(galoisFieldExtension));
+    }
+
+    static Polynomial inverseOfAddition(GaloisFieldExtension galoisFieldExtension, Polynomial polynomial){
+        return new Polynomial(CoefficientOperations.negation(
+                coefficients(galoisFieldExtension, polynomial), characteristic(galoisFieldExtension)));
+    }
+
+    static int inverseOfMultiplication(GaloisFieldExtension galoisFieldExtension, int index){
+        int[] inverse = inverse(galoisFieldExtension, decode(galoisFieldExtension, index));
+        return inverse == null ? -1 : encode(galoisFieldExtension, inverse);
+    }
+
+    static Polynomial inverseOfMultiplication(GaloisFieldExtension galoisFieldExtension, Polynomial polynomial){
+        int[] inverse = inverse(galoisFieldExtension, coefficients(galoisFieldExtension, polynomial));
+        return inverse == null ? null : new Polynomial(inverse);
+    }
+
+    static int[] coefficients(GaloisFieldExtension galoisFieldExtension, Polynomial polynomial){
+        return CoefficientOperations.reduce(polynomial.getCoefficients(), galoisFieldExtension.modulus,
+                characteristic(galoisFieldExtension), galoisFieldExtension.leadInverse);
+    }
+
+    private static int[] multiplication(GaloisFieldExtension galoisFieldExtension, int[] first, int[] second){
+        return CoefficientOperations.multiplication(first, second, galoisFieldExtension.modulus,
+                characteristic(galoisFieldExtension), galoisFieldExtension.leadInverse, galoisFieldExtension.reducer);
+    }
+
+    private static int[] inverse(GaloisFieldExtension galoisFieldExtension, int[] element){
+        return CoefficientOperations.inverse(element, galoisFieldExtension.modulus, galoisFieldExtension.getGaloisField());
+    }
+
+    private static int[] decode(GaloisFieldExtension galoisFieldExtension, int index){
+        return CoefficientOperations.decode(index, characteristic(galoisFieldExtension), galoisFieldExtension.getDegree());
+    }
+
+    private static int encode(GaloisFieldExtension galoisFieldExtension, int[] coefficients){
+        return CoefficientOperations.encode(coefficients, characteristic(galoisFieldExtension));
+    }
+
+    private static int characteristic(GaloisFieldExtension galoisFieldExtension){
+        return galoisFieldExtension.getGaloisField().getCharacteristic();
+    }
+}
@@ -0,0 +1,41 @@
+package dstu.csae.galois.extended;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+final class VectorRegionOperations {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final int NIBBLE_COUNT = 16;
+    private static final byte NIBBLE_MASK = 0x0F;
+
+    private VectorRegionOperations(){}
+
+    static boolean isSupported(){
+        return SPECIES.length() >= NIBBLE_COUNT;
+    }
+
+    static int multiplication(byte[] lowTable, byte[] highTable,
+                              byte[] source, int sourceOffset,
+                              byte[] destination, int destinationOffset,
+                              int length, boolean accumulate){
+        ByteVector low = ByteVector.fromArray(SPECIES, Arrays.copyOf(lowTable, SPECIES.length()), 0);
+        ByteVector high = ByteVector.fromArray(SPECIES, Arrays.copyOf(highTable, SPECIES.length()), 0);
+        int bound = SPECIES.loopBound(length);
+        for(int i = 0; i < bound; i += SPECIES.length()){
+            ByteVector value = ByteVector.fromArray(SPECIES, source, sourceOffset + i);
+            ByteVector product = value.and(NIBBLE_MASK).selectFrom(low)
+                    .lanewise(VectorOperators.XOR,
+                            value.lanewise(VectorOperators.LSHR, 4).and(NIBBLE_MASK).selectFrom(high));
+            if(accumulate){
+                product = product.lanewise(VectorOperators.XOR,
+                        ByteVector.fromArray(SPECIES, destination, destinationOffset + i));
+            }
+            product.intoArray(destination, destinationOffset + i);
+        }
+        return bound;
+    }
+}
@@ -0,0 +1,158 @@
+package dstu.csae.linear;
+
+import dstu.csae.exceptions.ExceptionMessageConstants;
+import dstu.csae.galois.IntField;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+public class FieldMatrix {
+
+    @Getter
+    private final IntField field;
+    @Getter
+    private final int rows;
+    @Getter
+    private final int columns;
+    final int[] data;
+
+    public FieldMatrix(IntField field, int rows, int columns)
+            throws IllegalArgumentException{
+        this(field, rows, columns, null);
+    }
+
+    public FieldMatrix(IntField field, int[][] values)
+            throws IllegalArgumentException{
+        this(field, Objects.isNull(values) ? 0 : values.length,
+                Objects.isNull(values) || values.length == 0 || Objects.isNull(values[0]) ? 0 : values[0].length,
+                null);
+        for(int i = 0; i < rows; i ++){
+            if(Objects.isNull(values[i]) || values[i].length != columns){
+                throw new IllegalArgumentException(
+                        String.format(ExceptionMessageConstants.VECTOR_LENGTH_MISMATCH,
+                                Objects.isNull(values[i]) ? 0 : values[i].length, columns));
+            }
+            for(int j = 0; j < columns; j ++){
+                data[i * columns + j] = field.bringToField(values[i][j]);
+            }
+        }
+    }
+
+    FieldMatrix(IntField field, int rows, int columns, int[] data)
+            throws IllegalArgumentException{
+        if(Objects.isNull(field)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.FIELD_IS_NULL);
+        }
+        if(rows <= 0 || columns <= 0){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.MATRIX_SIZE_IS_INVALID, rows, columns));
+        }
+        this.field = field;
+        this.rows = rows;
+        this.columns = columns;
+        this.data = Objects.isNull(data) ? new int[Math.multiplyExact(rows, columns)] : data;
+    }
+
+    public static FieldMatrix identity(IntField field, int size)
+            throws IllegalArgumentException{
+        FieldMatrix matrix = new FieldMatrix(field, size, size);
+        for(int i = 0; i < size; i ++){
+            matrix.data[i * size + i] = 1;
+        }
+        return matrix;
+    }
+
+    public int get(int row, int column){
+        return data[index(row, column)];
+    }
+
+    public void set(int row, int column, int value){
+        data[index(row, column)] = field.bringToField(value);
+    }
+
+    public int[] getRow(int row){
+        Objects.checkIndex(row, rows);
+        return Arrays.copyOfRange(data, row * columns, (row + 1) * columns);
+    }
+
+    public int[][] toArray(){
+        int[][] values = new int[rows][];
+        for(int i = 0; i < rows; i ++){
+            values[i] = getRow(i);
+        }
+        return values;
+    }
+
+    public FieldMatrix add(FieldMatrix other)
+            throws IllegalArgumentException{
+        return MatrixOperations.addition(this, other);
+    }
+
+    public FieldMatrix multiply(FieldMatrix other)
+            throws IllegalArgumentException{
+        return MatrixOperations.multiplication(this, other);
+    }
+
+    public int[] multiply(int[] vector)
+            throws IllegalArgumentException{
+        return MatrixOperations.multiplication(this, vector);
+    }
+
+    public FieldMatrix transpose(){
+        return MatrixOperations.transposition(this);
+    }
+
+    public int rank(){
+        return MatrixOperations.rank(this);
+    }
+
+    public int determinant()
+            throws IllegalArgumentException{
+        return MatrixOperations.determinant(this);
+    }
+
+    public Optional<FieldMatrix> inverse()
+            throws IllegalArgumentException{
+        return Optional.ofNullable(MatrixOperations.inverse(this));
+    }
+
+    public Optional<int[]> solve(int[] vector)
+            throws IllegalArgumentException{
+        return Optional.ofNullable(MatrixOperations.solve(this, vector));
+    }
+
+    public boolean isSquare(){
+        return rows == columns;
+    }
+
+    private int index(int row, int column){
+        Objects.checkIndex(row, rows);
+        Objects.checkIndex(column, columns);
+        return row * columns + column;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FieldMatrix that = (FieldMatrix) o;
+        return rows == that.rows && columns == that.columns
+                && field.equals(that.field) && Arrays.equals(data, that.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, rows, columns, Arrays.hashCode(data));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for(int i = 0; i < rows; i ++){
+            builder.append(Arrays.toString(getRow(i))).append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+}
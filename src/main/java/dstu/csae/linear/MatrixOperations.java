@@ -0,0 +1,282 @@
+package dstu.csae.linear;
+
+import dstu.csae.exceptions.ExceptionMessageConstants;
+import dstu.csae.galois.GaloisField;
+import dstu.csae.galois.IntField;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+class MatrixOperations {
+
+    private static final int BLOCK_ROWS = 32;
+    private static final long PARALLEL_THRESHOLD = 1L << 15;
+
+    static FieldMatrix addition(FieldMatrix first, FieldMatrix second)
+            throws IllegalArgumentException{
+        checkCompatible(first, second);
+        if(first.getRows() != second.getRows() || first.getColumns() != second.getColumns()){
+            throw dimensionMismatch(first, second);
+        }
+        IntField field = first.getField();
+        int[] result = second.data.clone();
+        axpy(field, 1, first.data, 0, result, 0, result.length);
+        return new FieldMatrix(field, first.getRows(), first.getColumns(), result);
+    }
+
+    static FieldMatrix multiplication(FieldMatrix first, FieldMatrix second)
+            throws IllegalArgumentException{
+        checkCompatible(first, second);
+        if(first.getColumns() != second.getRows()){
+            throw dimensionMismatch(first, second);
+        }
+        IntField field = first.getField();
+        int inner = first.getColumns();
+        int columns = second.getColumns();
+        int[] result = new int[first.getRows() * columns];
+        forEachRow(first.getRows(), (long) inner * columns, row -> {
+            for(int k = 0; k < inner; k ++){
+                int scalar = first.data[row * inner + k];
+                if(scalar != 0){
+                    axpy(field, scalar, second.data, k * columns, result, row * columns, columns);
+                }
+            }
+        });
+        return new FieldMatrix(field, first.getRows(), columns, result);
+    }
+
+    static int[] multiplication(FieldMatrix matrix, int[] vector)
+            throws IllegalArgumentException{
+        checkVector(matrix, vector, matrix.getColumns());
+        IntField field = matrix.getField();
+        int columns = matrix.getColumns();
+        int[] result = new int[matrix.getRows()];
+        forEachRow(matrix.getRows(), columns, row -> {
+            int sum = 0;
+            for(int j = 0; j < columns; j ++){
+                sum = field.add(sum, field.multiply(matrix.data[row * columns + j], field.bringToField(vector[j])));
+            }
+            result[row] = sum;
+        });
+        return result;
+    }
+
+    static FieldMatrix transposition(FieldMatrix matrix){
+        int rows = matrix.getRows();
+        int columns = matrix.getColumns();
+        int[] result = new int[matrix.data.length];
+        for(int i = 0; i < rows; i ++){
+            for(int j = 0; j < columns; j ++){
+                result[j * rows + i] = matrix.data[i * columns + j];
+            }
+        }
+        return new FieldMatrix(matrix.getField(), columns, rows, result);
+    }
+
+    static int rank(FieldMatrix matrix){
+        return eliminate(matrix.getField(), matrix.data.clone(),
+                matrix.getRows(), matrix.getColumns(), matrix.getColumns()).rank;
+    }
+
+    static int determinant(FieldMatrix matrix)
+            throws IllegalArgumentException{
+        checkSquare(matrix);
+        Elimination elimination = eliminate(matrix.getField(), matrix.data.clone(),
+                matrix.getRows(), matrix.getColumns(), matrix.getColumns());
+        return elimination.rank == matrix.getRows() ? elimination.determinant : 0;
+    }
+
+    static FieldMatrix inverse(FieldMatrix matrix)
+            throws IllegalArgumentException{
+        checkSquare(matrix);
+        int size = matrix.getRows();
+        int width = 2 * size;
+        int[] augmented = new int[size * width];
+        for(int i = 0; i < size; i ++){
+            System.arraycopy(matrix.data, i * size, augmented, i * width, size);
+            augmented[i * width + size + i] = 1;
+        }
+        if(eliminate(matrix.getField(), augmented, size, width, size).rank < size){
+            return null;
+        }
+        int[] result = new int[size * size];
+        for(int i = 0; i < size; i ++){
+            System.arraycopy(augmented, i * width + size, result, i * size, size);
+        }
+        return new FieldMatrix(matrix.getField(), size, size, result);
+    }
+
+    static int[] solve(FieldMatrix matrix, int[] vector)
+            throws IllegalArgumentException{
+        checkVector(matrix, vector, matrix.getRows());
+        IntField field = matrix.getField();
+        int rows = matrix.getRows();
+        int columns = matrix.getColumns();
+        int width = columns + 1;
+        int[] augmented = new int[rows * width];
+        for(int i = 0; i < rows; i ++){
+            System.arraycopy(matrix.data, i * columns, augmented, i * width, columns);
+            augmented[i * width + columns] = field.bringToField(vector[i]);
+        }
+        Elimination elimination = eliminate(field, augmented, rows, width, columns);
+        for(int i = elimination.rank; i < rows; i ++){
+            if(augmented[i * width + columns] != 0){
+                return null;
+            }
+        }
+        int[] solution = new int[columns];
+        for(int i = 0; i < elimination.rank; i ++){
+            solution[elimination.pivots[i]] = augmented[i * width + columns];
+        }
+        return solution;
+    }
+
+    static Elimination eliminate(IntField field, int[] data, int rows, int width, int pivotColumns){
+        Elimination elimination = new Elimination(Math.min(rows, pivotColumns));
+        for(int column = 0; column < pivotColumns && elimination.rank < rows; column ++){
+            int pivotRow = elimination.rank;
+            int candidate = pivotRow;
+            while(candidate < rows && data[candidate * width + column] == 0){
+                candidate ++;
+            }
+            if(candidate == rows){
+                continue;
+            }
+            if(candidate != pivotRow){
+                swapRows(data, width, candidate, pivotRow);
+                elimination.determinant = field.inverseOfAddition(elimination.determinant);
+            }
+            int pivot = data[pivotRow * width + column];
+            elimination.determinant = field.multiply(elimination.determinant, pivot);
+            scale(field, field.inverseOfMultiplication(pivot), data, pivotRow * width + column, width - column);
+            int start = column;
+            forEachRow(rows, width - column, row -> {
+                int factor = data[row * width + start];
+                if(row != pivotRow && factor != 0){
+                    axpy(field, field.inverseOfAddition(factor),
+                            data, pivotRow * width + start, data, row * width + start, width - start);
+                }
+            });
+            elimination.pivots[elimination.rank ++] = column;
+        }
+        return elimination;
+    }
+
+    static void axpy(IntField field, int scalar, int[] x, int xOffset, int[] y, int yOffset, int length){
+        if(field instanceof GaloisField){
+            long characteristic = field.getCharacteristic();
+            for(int i = 0; i < length; i ++){
+                y[yOffset + i] = (int) ((y[yOffset + i] + (long) scalar * x[xOffset + i]) % characteristic);
+            }
+            return;
+        }
+        for(int i = 0; i < length; i ++){
+            y[yOffset + i] = field.add(y[yOffset + i], field.multiply(scalar, x[xOffset + i]));
+        }
+    }
+
+    static void scale(IntField field, int scalar, int[] x, int offset, int length){
+        if(field instanceof GaloisField){
+            long characteristic = field.getCharacteristic();
+            for(int i = 0; i < length; i ++){
+                x[offset + i] = (int) ((long) scalar * x[offset + i] % characteristic);
+            }
+            return;
+        }
+        for(int i = 0; i < length; i ++){
+            x[offset + i] = field.multiply(scalar, x[offset + i]);
+        }
+    }
+
+    static void forEachRow(int rows, long workPerRow, IntConsumer action){
+        if(rows <= BLOCK_ROWS || rows * workPerRow < PARALLEL_THRESHOLD){
+            for(int row = 0; row < rows; row ++){
+                action.accept(row);
+            }
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new RowBlockTask(0, rows, action));
+    }
+
+    private static void swapRows(int[] data, int width, int first, int second){
+        int[] row = Arrays.copyOfRange(data, first * width, (first + 1) * width);
+        System.arraycopy(data, second * width, data, first * width, width);
+        System.arraycopy(row, 0, data, second * width, width);
+    }
+
+    private static void checkCompatible(FieldMatrix first, FieldMatrix second){
+        if(Objects.isNull(first) || Objects.isNull(second)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.MATRIX_IS_NULL);
+        }
+        if(!first.getField().equals(second.getField())){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.FIELDS_ARE_DIFFERENT,
+                            first.getField(), second.getField()));
+        }
+    }
+
+    private static void checkSquare(FieldMatrix matrix){
+        if(!matrix.isSquare()){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.MATRIX_IS_NOT_SQUARE,
+                            matrix.getRows(), matrix.getColumns()));
+        }
+    }
+
+    private static void checkVector(FieldMatrix matrix, int[] vector, int length){
+        if(Objects.isNull(vector)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.ARRAY_IS_NULL);
+        }
+        if(vector.length != length){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.VECTOR_LENGTH_MISMATCH, vector.length, length));
+        }
+    }
+
+    private static IllegalArgumentException dimensionMismatch(FieldMatrix first, FieldMatrix second){
+        return new IllegalArgumentException(
+                String.format(ExceptionMessageConstants.MATRIX_DIMENSION_MISMATCH,
+                        first.getRows(), first.getColumns(), second.getRows(), second.getColumns()));
+    }
+
+    static final class Elimination {
+
+        int rank;
+        int determinant = 1;
+        final int[] pivots;
+
+        Elimination(int size){
+            pivots = new int[size];
+        }
+    }
+
+    private static final class RowBlockTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final transient IntConsumer action;
+
+        RowBlockTask(int from, int to, IntConsumer action){
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from <= BLOCK_ROWS){
+                for(int row = from; row < to; row ++){
+                    action.accept(row);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RowBlockTask(from, middle, action), new RowBlockTask(middle, to, action));
+        }
+    }
+}
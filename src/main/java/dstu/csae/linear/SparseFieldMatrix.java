@@ -0,0 +1,112 @@
+package dstu.csae.linear;
+
+import dstu.csae.exceptions.ExceptionMessageConstants;
+import dstu.csae.galois.GaloisField;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+public class SparseFieldMatrix {
+
+    @Getter
+    private final GaloisField field;
+    @Getter
+    private final int rows;
+    @Getter
+    private final int columns;
+    final int[] rowOffsets;
+    final int[] columnIndices;
+    final int[] values;
+
+    public SparseFieldMatrix(GaloisField field, int rows, int columns,
+                             int[] rowOffsets, int[] columnIndices, int[] values)
+            throws IllegalArgumentException{
+        if(Objects.isNull(field)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.FIELD_IS_NULL);
+        }
+        if(rows <= 0 || columns <= 0){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.MATRIX_SIZE_IS_INVALID, rows, columns));
+        }
+        if(Objects.isNull(rowOffsets) || Objects.isNull(columnIndices) || Objects.isNull(values)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.ARRAY_IS_NULL);
+        }
+        if(rowOffsets.length != rows + 1 || rowOffsets[0] != 0
+                || columnIndices.length != rowOffsets[rows] || values.length != rowOffsets[rows]){
+            throw new IllegalArgumentException(ExceptionMessageConstants.SPARSE_STRUCTURE_IS_INVALID);
+        }
+        this.rowOffsets = rowOffsets.clone();
+        this.columnIndices = columnIndices.clone();
+        for(int row = 0; row < rows; row ++){
+            if(this.rowOffsets[row + 1] < this.rowOffsets[row]){
+                throw new IllegalArgumentException(ExceptionMessageConstants.SPARSE_STRUCTURE_IS_INVALID);
+            }
+        }
+        for(int row = 0; row < rows; row ++){
+            for(int k = this.rowOffsets[row]; k < this.rowOffsets[row + 1]; k ++){
+                if(this.columnIndices[k] < 0 || this.columnIndices[k] >= columns
+                        || (k > this.rowOffsets[row] && this.columnIndices[k] <= this.columnIndices[k - 1])){
+                    throw new IllegalArgumentException(ExceptionMessageConstants.SPARSE_STRUCTURE_IS_INVALID);
+                }
+            }
+        }
+        this.field = field;
+        this.rows = rows;
+        this.columns = columns;
+        this.values = values.clone();
+        for(int k = 0; k < this.values.length; k ++){
+            this.values[k] = field.bringToField(this.values[k]);
+        }
+    }
+
+    public static SparseFieldMatrix fromTriplets(GaloisField field, int rows, int columns,
+                                                 int[] rowIndices, int[] columnIndices, int[] values)
+            throws IllegalArgumentException{
+        return SparseOperations.fromTriplets(field, rows, columns, rowIndices, columnIndices, values);
+    }
+
+    public int getNonZeroCount(){
+        return values.length;
+    }
+
+    public int get(int row, int column){
+        Objects.checkIndex(row, rows);
+        Objects.checkIndex(column, columns);
+        int k = Arrays.binarySearch(columnIndices, rowOffsets[row], rowOffsets[row + 1], column);
+        return k < 0 ? 0 : values[k];
+    }
+
+    public int[] multiply(int[] vector)
+            throws IllegalArgumentException{
+        return SparseOperations.multiplication(this, vector);
+    }
+
+    public Optional<int[]> solve(int[] vector)
+            throws IllegalArgumentException{
+        return Optional.ofNullable(SparseOperations.solve(this, vector));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SparseFieldMatrix that = (SparseFieldMatrix) o;
+        return rows == that.rows && columns == that.columns && field.equals(that.field)
+                && Arrays.equals(rowOffsets, that.rowOffsets)
+                && Arrays.equals(columnIndices, that.columnIndices)
+                && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, rows, columns,
+                Arrays.hashCode(rowOffsets), Arrays.hashCode(columnIndices), Arrays.hashCode(values));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SparseFieldMatrix %dx%d, nnz=%d над %s", rows, columns, values.length, field);
+    }
+}
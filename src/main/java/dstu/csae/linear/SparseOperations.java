@@ -0,0 +1,286 @@
+package dstu.csae.linear;
+
+import dstu.csae.exceptions.ExceptionMessageConstants;
+import dstu.csae.galois.GaloisField;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+class SparseOperations {
+
+    private static final int SOLVE_ATTEMPTS = 8;
+    private static final int EARLY_TERMINATION_STEPS = 24;
+
+    static SparseFieldMatrix fromTriplets(GaloisField field, int rows, int columns,
+                                          int[] rowIndices, int[] columnIndices, int[] values)
+            throws IllegalArgumentException{
+        if(Objects.isNull(field)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.FIELD_IS_NULL);
+        }
+        if(Objects.isNull(rowIndices) || Objects.isNull(columnIndices) || Objects.isNull(values)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.ARRAY_IS_NULL);
+        }
+        if(rowIndices.length != values.length || columnIndices.length != values.length){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.VECTOR_LENGTH_MISMATCH,
+                            Math.min(rowIndices.length, columnIndices.length), values.length));
+        }
+        if(rows <= 0 || columns <= 0){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.MATRIX_SIZE_IS_INVALID, rows, columns));
+        }
+        int[] offsets = new int[rows + 1];
+        for(int k = 0; k < values.length; k ++){
+            Objects.checkIndex(rowIndices[k], rows);
+            Objects.checkIndex(columnIndices[k], columns);
+            offsets[rowIndices[k] + 1] ++;
+        }
+        for(int row = 0; row < rows; row ++){
+            offsets[row + 1] += offsets[row];
+        }
+        long[] entries = new long[values.length];
+        int[] next = Arrays.copyOf(offsets, rows);
+        for(int k = 0; k < values.length; k ++){
+            entries[next[rowIndices[k]] ++] = (long) columnIndices[k] << Integer.SIZE
+                    | field.bringToField(values[k]);
+        }
+        int[] rowOffsets = new int[rows + 1];
+        int[] resultColumns = new int[values.length];
+        int[] resultValues = new int[values.length];
+        int size = 0;
+        for(int row = 0; row < rows; row ++){
+            Arrays.sort(entries, offsets[row], offsets[row + 1]);
+            for(int k = offsets[row]; k < offsets[row + 1]; k ++){
+                int column = (int) (entries[k] >>> Integer.SIZE);
+                int value = (int) entries[k];
+                if(size > rowOffsets[row] && resultColumns[size - 1] == column){
+                    resultValues[size - 1] = field.add(resultValues[size - 1], value);
+                }else{
+                    resultColumns[size] = column;
+                    resultValues[size ++] = value;
+                }
+            }
+            int compacted = rowOffsets[row];
+            for(int k = rowOffsets[row]; k < size; k ++){
+                if(resultValues[k] != 0){
+                    resultColumns[compacted] = resultColumns[k];
+                    resultValues[compacted ++] = resultValues[k];
+                }
+            }
+            size = compacted;
+            rowOffsets[row + 1] = size;
+        }
+        return new SparseFieldMatrix(field, rows, columns, rowOffsets,
+                Arrays.copyOf(resultColumns, size), Arrays.copyOf(resultValues, size));
+    }
+
+    static int[] multiplication(SparseFieldMatrix matrix, int[] vector)
+            throws IllegalArgumentException{
+        if(Objects.isNull(vector)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.ARRAY_IS_NULL);
+        }
+        if(vector.length != matrix.getColumns()){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.VECTOR_LENGTH_MISMATCH,
+                            vector.length, matrix.getColumns()));
+        }
+        int[] result = new int[matrix.getRows()];
+        multiplication(matrix, vector, result);
+        return result;
+    }
+
+    static int[] solve(SparseFieldMatrix matrix, int[] vector)
+            throws IllegalArgumentException{
+        if(matrix.getRows() != matrix.getColumns()){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.MATRIX_IS_NOT_SQUARE,
+                            matrix.getRows(), matrix.getColumns()));
+        }
+        if(Objects.isNull(vector)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.ARRAY_IS_NULL);
+        }
+        if(vector.length != matrix.getRows()){
+            throw new IllegalArgumentException(
+                    String.format(ExceptionMessageConstants.VECTOR_LENGTH_MISMATCH,
+                            vector.length, matrix.getRows()));
+        }
+        GaloisField field = matrix.getField();
+        int[] right = new int[vector.length];
+        boolean isZero = true;
+        for(int i = 0; i < vector.length; i ++){
+            right[i] = field.bringToField(vector[i]);
+            isZero &= right[i] == 0;
+        }
+        if(isZero){
+            return right;
+        }
+        SplittableRandom random = new SplittableRandom(Arrays.hashCode(right));
+        for(int attempt = 0; attempt < SOLVE_ATTEMPTS; attempt ++){
+            int[] solution = wiedemann(matrix, right, random);
+            if(Objects.nonNull(solution) && Arrays.equals(multiplication(matrix, solution), right)){
+                return solution;
+            }
+        }
+        return null;
+    }
+
+    private static int[] wiedemann(SparseFieldMatrix matrix, int[] right, SplittableRandom random){
+        GaloisField field = matrix.getField();
+        int size = matrix.getRows();
+        int characteristic = field.getCharacteristic();
+        int[] projection = new int[size];
+        for(int i = 0; i < size; i ++){
+            projection[i] = random.nextInt(characteristic);
+        }
+        int limit = 2 * size;
+        LinearRecurrence recurrence = new LinearRecurrence(field, limit);
+        int[] current = right.clone();
+        int[] next = new int[size];
+        for(int length = 1; length <= limit; length ++){
+            recurrence.accept(dot(field, projection, current));
+            if(recurrence.isStable(EARLY_TERMINATION_STEPS)){
+                break;
+            }
+            multiplication(matrix, current, next);
+            int[] swap = current;
+            current = next;
+            next = swap;
+        }
+        int[] connection = recurrence.connection();
+        int degree = connection.length - 1;
+        int constant = connection[degree];
+        if(constant == 0){
+            return null;
+        }
+        int[] solution = new int[size];
+        current = right.clone();
+        for(int k = 1; k <= degree; k ++){
+            int coefficient = connection[degree - k];
+            MatrixOperations.axpy(field, coefficient, current, 0, solution, 0, size);
+            if(k < degree){
+                multiplication(matrix, current, next);
+                int[] swap = current;
+                current = next;
+                next = swap;
+            }
+        }
+        MatrixOperations.scale(field, field.inverseOfAddition(field.inverseOfMultiplication(constant)),
+                solution, 0, size);
+        return solution;
+    }
+
+    private static void multiplication(SparseFieldMatrix matrix, int[] vector, int[] result){
+        long characteristic = matrix.getField().getCharacteristic();
+        int[] offsets = matrix.rowOffsets;
+        int[] columns = matrix.columnIndices;
+        int[] values = matrix.values;
+        int batch = accumulationBatch(characteristic);
+        MatrixOperations.forEachRow(matrix.getRows(), 1 + values.length / matrix.getRows(), row -> {
+            long sum = 0;
+            int pending = 0;
+            for(int k = offsets[row]; k < offsets[row + 1]; k ++){
+                sum += (long) values[k] * vector[columns[k]];
+                if(++ pending == batch){
+                    sum %= characteristic;
+                    pending = 0;
+                }
+            }
+            result[row] = (int) (sum % characteristic);
+        });
+    }
+
+    private static int dot(GaloisField field, int[] first, int[] second){
+        long characteristic = field.getCharacteristic();
+        int batch = accumulationBatch(characteristic);
+        long sum = 0;
+        int pending = 0;
+        for(int i = 0; i < first.length; i ++){
+            sum += (long) first[i] * second[i];
+            if(++ pending == batch){
+                sum %= characteristic;
+                pending = 0;
+            }
+        }
+        return (int) (sum % characteristic);
+    }
+
+    private static int accumulationBatch(long characteristic){
+        long square = (characteristic - 1) * (characteristic - 1);
+        return (int) Math.min(Integer.MAX_VALUE, (Long.MAX_VALUE - characteristic) / Math.max(1, square));
+    }
+
+    static final class LinearRecurrence {
+
+        private final GaloisField field;
+        private final int[] sequence;
+        private int[] connection;
+        private int[] previous;
+        private int[] spare;
+        private int length;
+        private int complexity;
+        private int previousComplexity;
+        private int shift = 1;
+        private int previousDiscrepancy = 1;
+        private int unchanged;
+
+        LinearRecurrence(GaloisField field, int capacity){
+            this.field = field;
+            this.sequence = new int[capacity];
+            this.connection = new int[capacity + 1];
+            this.previous = new int[capacity + 1];
+            this.spare = new int[capacity + 1];
+            connection[0] = 1;
+            previous[0] = 1;
+        }
+
+        void accept(int term){
+            long characteristic = field.getCharacteristic();
+            sequence[length] = term;
+            int batch = accumulationBatch(characteristic);
+            long discrepancy = term;
+            for(int j = 1; j <= complexity; j ++){
+                discrepancy += (long) connection[j] * sequence[length - j];
+                if(j % batch == 0){
+                    discrepancy %= characteristic;
+                }
+            }
+            int d = (int) (discrepancy % characteristic);
+            length ++;
+            if(d == 0){
+                shift ++;
+                unchanged ++;
+                return;
+            }
+            unchanged = 0;
+            long factor = characteristic - field.divide(d, previousDiscrepancy);
+            boolean isLengthening = 2 * complexity < length;
+            if(isLengthening){
+                System.arraycopy(connection, 0, spare, 0, length);
+            }
+            int bound = Math.min(shift + previousComplexity, connection.length - 1);
+            for(int j = shift; j <= bound; j ++){
+                connection[j] = (int) ((connection[j] + factor * previous[j - shift]) % characteristic);
+            }
+            if(isLengthening){
+                previousComplexity = complexity;
+                complexity = length - complexity;
+                int[] swap = previous;
+                previous = spare;
+                spare = swap;
+                previousDiscrepancy = d;
+                shift = 1;
+            }else{
+                shift ++;
+            }
+        }
+
+        boolean isStable(int steps){
+            return unchanged >= steps && length >= 2 * complexity + steps;
+        }
+
+        int[] connection(){
+            return Arrays.copyOf(connection, complexity + 1);
+        }
+    }
+}
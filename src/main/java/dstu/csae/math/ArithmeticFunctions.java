@@ -1,7 +1,10 @@
 package dstu.csae.math;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.TreeSet;
 import java.util.stream.IntStream;
 
 public class ArithmeticFunctions {
@@ -52,6 +55,94 @@ public class ArithmeticFunctions {
     }
 
 
+    private static final int TRIAL_DIVISION_LIMIT = 1 << 12;
+    private static final int PRIME_CERTAINTY = 64;
+
+    public static List<BigInteger> getPrimeDivisors(BigInteger number){
+        TreeSet<BigInteger> divisors = new TreeSet<>();
+        number = number.abs();
+        for(int divisor = 2; divisor < TRIAL_DIVISION_LIMIT && number.compareTo(BigInteger.ONE) > 0; divisor ++){
+            BigInteger candidate = BigInteger.valueOf(divisor);
+            if(number.mod(candidate).signum() == 0){
+                divisors.add(candidate);
+                do{
+                    number = number.divide(candidate);
+                }while(number.mod(candidate).signum() == 0);
+            }
+        }
+        collectPrimeDivisors(number, divisors);
+        return List.copyOf(divisors);
+    }
+
+    private static void collectPrimeDivisors(BigInteger number, TreeSet<BigInteger> divisors){
+        if(number.compareTo(BigInteger.ONE) <= 0){
+            return;
+        }
+        if(number.isProbablePrime(PRIME_CERTAINTY)){
+            divisors.add(number);
+            return;
+        }
+        BigInteger divisor = pollardRho(number);
+        collectPrimeDivisors(divisor, divisors);
+        collectPrimeDivisors(number.divide(divisor), divisors);
+    }
+
+    private static BigInteger pollardRho(BigInteger number){
+        BigInteger two = BigInteger.TWO;
+        if(!number.testBit(0)){
+            return two;
+        }
+        for(BigInteger increment = BigInteger.ONE; ; increment = increment.add(BigInteger.ONE)){
+            BigInteger slow = two;
+            BigInteger fast = two;
+            BigInteger divisor = BigInteger.ONE;
+            while(divisor.equals(BigInteger.ONE)){
+                slow = slow.multiply(slow).add(increment).mod(number);
+                fast = fast.multiply(fast).add(increment).mod(number);
+                fast = fast.multiply(fast).add(increment).mod(number);
+                divisor = slow.subtract(fast).abs().gcd(number);
+            }
+            if(!divisor.equals(number)){
+                return divisor;
+            }
+        }
+    }
+
+    private static final int[] MILLER_RABIN_BASES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37};
+
+    public static boolean isPrime(long number){
+        if(number < 2){
+            return false;
+        }
+        if(number <= Integer.MAX_VALUE){
+            return isPrime((int) number);
+        }
+        for(int base : MILLER_RABIN_BASES){
+            if(number % base == 0){
+                return false;
+            }
+        }
+        BigInteger modulo = BigInteger.valueOf(number);
+        BigInteger previous = modulo.subtract(BigInteger.ONE);
+        int shift = previous.getLowestSetBit();
+        BigInteger odd = previous.shiftRight(shift);
+        for(int base : MILLER_RABIN_BASES){
+            BigInteger x = BigInteger.valueOf(base).modPow(odd, modulo);
+            if(x.equals(BigInteger.ONE) || x.equals(previous)){
+                continue;
+            }
+            boolean witness = true;
+            for(int i = 1; i < shift && witness; i ++){
+                x = x.multiply(x).mod(modulo);
+                witness = !x.equals(previous);
+            }
+            if(witness){
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static boolean isPrime(int number){
         return number > 1
                 && IntStream.rangeClosed(2, (int) Math.sqrt(number))
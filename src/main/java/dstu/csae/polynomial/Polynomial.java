@@ -6,15 +6,14 @@ import dstu.csae.exceptions.ExceptionMessageConstants;
 
 import java.math.BigInteger;
 import java.util.Arrays;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.IntStream;
 
 public class Polynomial implements Comparable<Polynomial>, Cloneable{
     public static final Polynomial ZERO = new Polynomial(new int[]{0});
     public static final Polynomial ONE = new Polynomial(new int[]{1});
 
     private int[] coefficients;
+    private int hash;
 
     public Polynomial() throws EmptyCoefficientsException{
         this(1);
@@ -34,22 +33,27 @@ public class Polynomial implements Comparable<Polynomial>, Cloneable{
         if(coefficients == null || coefficients.length == 0){
             throw new EmptyCoefficientsException(ExceptionMessageConstants.EMPTY_COEFFICIENTS);
         }
-        this.coefficients = coefficients;
+        int length = coefficients.length;
+        while(length > 1 && coefficients[length - 1] == 0){
+            length --;
+        }
+        this.coefficients = Arrays.copyOf(coefficients, length);
+        this.hash = Arrays.hashCode(this.coefficients);
     }
 
     public int getDegree(){
-        return removeLastZero(this).length - 1;
+        return coefficients.length - 1;
     }
 
     public int get(int degree) throws IndexOutOfBoundsException{
-        if(!isInBounds(degree)){
+        if(degree < 0){
             throw new IndexOutOfBoundsException(String.format(
                     ExceptionMessageConstants.POLYNOMIAL_INDEX_OUT_OF_BOUNDS,
                     this,
                     degree
             ));
-        };
-        return coefficients[degree];
+        }
+        return degree < coefficients.length ? coefficients[degree] : 0;
     }
 
     public int[] getCoefficients(){
@@ -58,10 +62,9 @@ public class Polynomial implements Comparable<Polynomial>, Cloneable{
 
     public int evaluate(int x) {
         int result = 0;
-        for (int deg = 0; deg < coefficients.length; deg++) {
-            int xPow = (deg == 0) ? 1 : (int) Math.pow(x, deg);
+        for (int deg = coefficients.length - 1; deg >= 0; deg--) {
             // Внимание: возможны переполнения int при умножении или сложении.
-            result += xPow * coefficients[deg];
+            result = result * x + coefficients[deg];
         }
         return result;
     }
@@ -71,24 +74,31 @@ public class Polynomial implements Comparable<Polynomial>, Cloneable{
             return Optional.empty();
         }
         BigInteger result = BigInteger.ZERO;
-        for(int deg = 0; deg < coefficients.length; deg++){
-            result = x.pow(deg)
-                    .multiply(BigInteger.valueOf(coefficients[deg]))
-                    .add(result);
+        for(int deg = coefficients.length - 1; deg >= 0; deg--){
+            result = result.multiply(x).add(BigInteger.valueOf(coefficients[deg]));
         }
         return Optional.of(result);
     }
 
     public double evaluate(double x){
-        return IntStream.range(0, coefficients.length)
-                .mapToDouble(degree -> (Math.pow(x, degree) * coefficients[degree])).sum();
+        double result = 0;
+        for(int deg = coefficients.length - 1; deg >= 0; deg--){
+            result = result * x + coefficients[deg];
+        }
+        return result;
     }
 
-    public Polynomial set(int degree, int coefficient){
-        Polynomial copy = clone();
-        copy.isInBounds(degree);
-        copy.coefficients[degree] = coefficient;
-        return copy;
+    public Polynomial set(int degree, int coefficient) throws IndexOutOfBoundsException{
+        if(degree < 0){
+            throw new IndexOutOfBoundsException(String.format(
+                    ExceptionMessageConstants.POLYNOMIAL_INDEX_OUT_OF_BOUNDS,
+                    this,
+                    degree
+            ));
+        }
+        int[] copy = Arrays.copyOf(coefficients, Math.max(coefficients.length, degree + 1));
+        copy[degree] = coefficient;
+        return new Polynomial(copy);
     }
 
     public Polynomial add(Polynomial p){
@@ -115,19 +125,8 @@ public class Polynomial implements Comparable<Polynomial>, Cloneable{
         return degree >= 0 && degree < coefficients.length;
     }
 
-    public void removeLastZero(){
-        this.coefficients = removeLastZero(this);
-    }
-
-    static int[] removeLastZero(Polynomial p){
-        int lastIndex = p.coefficients.length - 1;
-        for(int i = lastIndex; i > 1; i --){
-            if (p.coefficients[i] != 0){
-                break;
-            }
-            lastIndex --;
-        }
-        return Arrays.copyOf(p.coefficients,lastIndex + 1);
+    int[] coefficients(){
+        return coefficients;
     }
 
     @Override
@@ -135,22 +134,18 @@ public class Polynomial implements Comparable<Polynomial>, Cloneable{
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Polynomial that = (Polynomial) o;
-        return Objects.deepEquals(removeLastZero(this), removeLastZero(that));
+        return hash == that.hash && Arrays.equals(coefficients, that.coefficients);
     }
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(removeLastZero(this));
+        return hash;
     }
 
     public String toString(char symbol){
         int start = 0;
-        while(coefficients[start] == 0){
+        while(start < coefficients.length - 1 && coefficients[start] == 0){
             start ++;
-            if(start == coefficients.length - 1){
-                start = 0;
-                break;
-            }
         }
         StringBuilder out = new StringBuilder(String.valueOf(coefficients[start]));
         String monomial;
@@ -192,12 +187,12 @@ public class Polynomial implements Comparable<Polynomial>, Cloneable{
             return 1;
         }
         // Сначала по степени
-        if (this.getDegree() != other.getDegree()) {
-            return Integer.compare(this.getDegree(), other.getDegree());
+        if (coefficients.length != other.coefficients.length) {
+            return Integer.compare(coefficients.length, other.coefficients.length);
         }
         // Потом по коэффициентам от старшего к младшему
-        for (int i = this.getDegree(); i >= 0; i--) {
-            int cmp = Integer.compare(this.get(i), other.get(i));
+        for (int i = coefficients.length - 1; i >= 0; i--) {
+            int cmp = Integer.compare(coefficients[i], other.coefficients[i]);
             if (cmp != 0) {
                 return cmp;
             }
@@ -12,8 +12,8 @@ public class PolynomialOperations extends Operations {
         if(checkNullable(first, second)){
             return null;
         }
-        int[] firstC = Polynomial.removeLastZero(first);
-        int[] secondC = Polynomial.removeLastZero(second);
+        int[] firstC = first.coefficients();
+        int[] secondC = second.coefficients();
 
         return new Polynomial(addition(firstC, secondC));
     }
@@ -22,8 +22,8 @@ public class PolynomialOperations extends Operations {
         if(checkNullable(reduced, subtracted)){
             return null;
         }
-        int[] reducedC = Polynomial.removeLastZero(reduced);
-        int[] subtractedC = Polynomial.removeLastZero(subtracted);
+        int[] reducedC = reduced.coefficients();
+        int[] subtractedC = subtracted.coefficients();
         return new Polynomial(subtraction(reducedC, subtractedC));
     }
 
@@ -50,8 +50,8 @@ public class PolynomialOperations extends Operations {
         if ((divisible.getDegree() == 0) || divisible.getDegree() < divisor.getDegree()){
             return Polynomial.ZERO.clone();
         }
-        int[] divisibleC = Polynomial.removeLastZero(divisible);
-        int[] divisorC = Polynomial.removeLastZero(divisor);
+        int[] divisibleC = divisible.coefficients();
+        int[] divisorC = divisor.coefficients();
         return new Polynomial(division(divisibleC, divisorC));
     }
 
@@ -71,8 +71,8 @@ public class PolynomialOperations extends Operations {
         if(divisible.getDegree() < divisor.getDegree()){
             return divisible.clone();
         }
-        int[] divisibleC = Polynomial.removeLastZero(divisible);
-        int[] divisorC = Polynomial.removeLastZero(divisor);
+        int[] divisibleC = divisible.coefficients();
+        int[] divisorC = divisor.coefficients();
         return new Polynomial(
                 subtraction(divisibleC,
                         multiplication(
@@ -0,0 +1,122 @@
+package dstu.csae.polynomial;
+
+import dstu.csae.exceptions.ExceptionMessageConstants;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+public final class SparsePolynomial {
+
+    private final int[] exponents;
+    private final int[] coefficients;
+    private final int hash;
+
+    public SparsePolynomial(int[] exponents, int[] coefficients) throws IllegalArgumentException{
+        if(Objects.isNull(exponents) || Objects.isNull(coefficients)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.ARRAY_IS_NULL);
+        }
+        if(exponents.length != coefficients.length){
+            throw new IllegalArgumentException(String.format(ExceptionMessageConstants.SPARSE_TERMS_MISMATCH,
+                    exponents.length, coefficients.length));
+        }
+        Integer[] order = IntStream.range(0, exponents.length).boxed().toArray(Integer[]::new);
+        Arrays.sort(order, Comparator.comparingInt(i -> exponents[i]));
+        int[] mergedExponents = new int[exponents.length];
+        int[] mergedCoefficients = new int[coefficients.length];
+        int terms = 0;
+        for(int i : order){
+            if(exponents[i] < 0){
+                throw new IllegalArgumentException(String.format(ExceptionMessageConstants.EXPONENT_IS_NEGATIVE,
+                        exponents[i]));
+            }
+            if(terms > 0 && mergedExponents[terms - 1] == exponents[i]){
+                mergedCoefficients[terms - 1] = Math.addExact(mergedCoefficients[terms - 1], coefficients[i]);
+                if(mergedCoefficients[terms - 1] == 0){
+                    terms --;
+                }
+            }else if(coefficients[i] != 0){
+                mergedExponents[terms] = exponents[i];
+                mergedCoefficients[terms] = coefficients[i];
+                terms ++;
+            }
+        }
+        this.exponents = Arrays.copyOf(mergedExponents, terms);
+        this.coefficients = Arrays.copyOf(mergedCoefficients, terms);
+        this.hash = 31 * Arrays.hashCode(this.exponents) + Arrays.hashCode(this.coefficients);
+    }
+
+    public SparsePolynomial(Polynomial polynomial) throws IllegalArgumentException{
+        this(exponentsOf(polynomial), valuesOf(polynomial));
+    }
+
+    public int getDegree(){
+        return exponents.length == 0 ? 0 : exponents[exponents.length - 1];
+    }
+
+    public int getWeight(){
+        return exponents.length;
+    }
+
+    public int getExponent(int term) throws IndexOutOfBoundsException{
+        return exponents[Objects.checkIndex(term, exponents.length)];
+    }
+
+    public int getCoefficient(int term) throws IndexOutOfBoundsException{
+        return coefficients[Objects.checkIndex(term, coefficients.length)];
+    }
+
+    public int get(int degree){
+        int term = Arrays.binarySearch(exponents, degree);
+        return term < 0 ? 0 : coefficients[term];
+    }
+
+    public int[] getExponents(){
+        return Arrays.copyOf(exponents, exponents.length);
+    }
+
+    public int[] getCoefficients(){
+        return Arrays.copyOf(coefficients, coefficients.length);
+    }
+
+    public Polynomial toPolynomial(){
+        int[] dense = new int[getDegree() + 1];
+        for(int i = 0; i < exponents.length; i ++){
+            dense[exponents[i]] = coefficients[i];
+        }
+        return new Polynomial(dense);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SparsePolynomial that = (SparsePolynomial) o;
+        return hash == that.hash && Arrays.equals(exponents, that.exponents)
+                && Arrays.equals(coefficients, that.coefficients);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString(){
+        return toPolynomial().toString();
+    }
+
+    private static int[] exponentsOf(Polynomial polynomial){
+        if(Objects.isNull(polynomial)){
+            throw new IllegalArgumentException(ExceptionMessageConstants.POLYNOMIAL_IS_NULL);
+        }
+        int[] dense = polynomial.coefficients();
+        return IntStream.range(0, dense.length).filter(i -> dense[i] != 0).toArray();
+    }
+
+    private static int[] valuesOf(Polynomial polynomial){
+        int[] dense = polynomial.coefficients();
+        return Arrays.stream(dense).filter(coefficient -> coefficient != 0).toArray();
+    }
+}
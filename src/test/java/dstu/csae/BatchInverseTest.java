@@ -0,0 +1,105 @@
+package dstu.csae;
+
+import dstu.csae.galois.GaloisField;
+import dstu.csae.galois.IntField;
+import dstu.csae.galois.LongGaloisField;
+import dstu.csae.galois.extended.BinaryFieldExtension;
+import dstu.csae.galois.extended.ExtensionMode;
+import dstu.csae.galois.extended.GaloisFieldExtension;
+import dstu.csae.polynomial.Polynomial;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BatchInverseTest {
+
+    @ParameterizedTest
+    @MethodSource("provideIntFields")
+    void intFieldTest(IntField field) {
+        Random random = new Random(field.getCharacteristic());
+        for(int length : new int[]{0, 1, 2, 7, 64}){
+            int[] in = random.ints(length, 0, field.getCharacteristic()).toArray();
+            for(int i = 0; i < length; i += 3){
+                in[i] = 0;
+            }
+            int[] expected = new int[length];
+            for(int i = 0; i < length; i ++){
+                expected[i] = in[i] == 0 ? 0 : field.inverseOfMultiplication(in[i]);
+            }
+            int[] out = new int[length + 1];
+            out[length] = -1;
+            field.invertAll(in, out);
+            assertArrayEquals(expected, Arrays.copyOf(out, length));
+            assertEquals(-1, out[length]);
+            field.invertAll(in, in);
+            assertArrayEquals(expected, in);
+        }
+        assertThrows(IllegalArgumentException.class, () -> field.invertAll(null, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> field.invertAll(new int[2], new int[1]));
+    }
+
+    @Test
+    void longGaloisFieldTest() {
+        LongGaloisField field = new LongGaloisField((1L << 61) - 1);
+        Random random = new Random(61);
+        long[] in = random.longs(40).toArray();
+        in[0] = in[17] = in[39] = 0;
+        in[5] = field.getCharacteristic();
+        long[] expected = new long[in.length];
+        for(int i = 0; i < in.length; i ++){
+            expected[i] = field.bringToField(in[i]) == 0 ? 0 : field.inverseOfMultiplication(in[i]);
+        }
+        long[] out = new long[in.length];
+        field.invertAll(in, out);
+        assertArrayEquals(expected, out);
+        field.invertAll(in, in);
+        assertArrayEquals(expected, in);
+        assertThrows(IllegalArgumentException.class, () -> field.invertAll(new long[2], new long[1]));
+    }
+
+    @Test
+    void binaryFieldExtensionTest() {
+        BinaryFieldExtension field = new BinaryFieldExtension(new Polynomial(new int[]{1, 0, 0, 0, 0, 0,
+                0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1}));
+        Random random = new Random(33);
+        long[] in = new long[40];
+        for(int i = 0; i < in.length; i ++){
+            in[i] = i % 4 == 0 ? BinaryFieldExtension.ZERO : field.bringToField(random.nextLong());
+        }
+        long[] expected = new long[in.length];
+        for(int i = 0; i < in.length; i ++){
+            expected[i] = in[i] == BinaryFieldExtension.ZERO ? 0 : field.inverseOfMultiplication(in[i]);
+        }
+        long[] out = new long[in.length];
+        field.invertAll(in, out);
+        assertArrayEquals(expected, out);
+        field.invertAll(in, in);
+        assertArrayEquals(expected, in);
+        assertThrows(IllegalArgumentException.class, () -> field.invertAll(null, new long[0]));
+    }
+
+    static Stream<IntField> provideIntFields() {
+        GaloisField binary = new GaloisField(2);
+        Polynomial cubic = new Polynomial(new int[]{1, 1, 0, 1});
+        return Stream.of(
+                new GaloisField(2),
+                new GaloisField(13),
+                new GaloisField(2147483647),
+                new GaloisField(1000003, 0),
+                new GaloisFieldExtension(binary, cubic),
+                new GaloisFieldExtension(new GaloisField(3), new Polynomial(new int[]{1, 2, 0, 1}),
+                        ExtensionMode.OPERATION_MATRIX),
+                new GaloisFieldExtension(binary, new Polynomial(new int[]{1, 0, 1, 1, 1, 0, 0, 0, 1}),
+                        ExtensionMode.LOG_TABLE),
+                new GaloisFieldExtension(binary, cubic, ExtensionMode.TABLE_FREE)
+        );
+    }
+}
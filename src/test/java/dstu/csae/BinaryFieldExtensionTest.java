@@ -0,0 +1,60 @@
+package dstu.csae;
+
+import dstu.csae.galois.GaloisField;
+import dstu.csae.galois.extended.BinaryFieldExtension;
+import dstu.csae.galois.extended.ExtensionMode;
+import dstu.csae.galois.extended.GaloisFieldExtension;
+import dstu.csae.polynomial.Polynomial;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BinaryFieldExtensionTest {
+
+    @ParameterizedTest
+    @MethodSource("provideTestFields")
+    void multiplicationMatchesExtensionTest(BinaryFieldExtension field) {
+        GaloisFieldExtension extension = new GaloisFieldExtension(
+                new GaloisField(2), field.getPolynomial(), ExtensionMode.TABLE_FREE);
+        Random random = new Random(field.getDegree());
+        for(int i = 0; i < 200; i ++){
+            long first = field.bringToField(random.nextLong());
+            long second = field.bringToField(random.nextLong());
+            Polynomial expected = extension.multiply(field.get(first), field.get(second)).orElseThrow();
+            assertEquals(expected, field.get(field.multiply(first, second)));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestFields")
+    void multiplyInverseTest(BinaryFieldExtension field) {
+        Random random = new Random(field.getDegree());
+        for(int i = 0; i < 200; i ++){
+            long element = field.bringToField(random.nextLong());
+            if(element == BinaryFieldExtension.ZERO){
+                continue;
+            }
+            long inverse = field.inverseOfMultiplication(element);
+            assertEquals(BinaryFieldExtension.ONE, field.multiply(element, inverse));
+        }
+    }
+
+    static Stream<BinaryFieldExtension> provideTestFields() {
+        return Stream.of(
+                new BinaryFieldExtension(sparse(8, 4, 3, 2, 0)),
+                new BinaryFieldExtension(sparse(33, 13, 0)),
+                new BinaryFieldExtension(sparse(64, 4, 3, 1, 0)));
+    }
+
+    private static Polynomial sparse(int ... exponents) {
+        int[] coefficients = new int[exponents[0] + 1];
+        for(int exponent : exponents){
+            coefficients[exponent] = 1;
+        }
+        return new Polynomial(coefficients);
+    }
+}
@@ -0,0 +1,77 @@
+package dstu.csae;
+
+import dstu.csae.galois.GaloisField;
+import dstu.csae.galois.IntField;
+import dstu.csae.galois.extended.ExtensionMode;
+import dstu.csae.galois.extended.GaloisFieldExtension;
+import dstu.csae.linear.FieldMatrix;
+import dstu.csae.polynomial.Polynomial;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FieldMatrixTest {
+
+    @ParameterizedTest
+    @MethodSource("provideTestFields")
+    void inverseTest(IntField field) {
+        Random random = new Random(field.getCharacteristic());
+        for(int size : new int[]{1, 5, 40, 200}){
+            FieldMatrix matrix = randomMatrix(field, size, size, random);
+            matrix.inverse().ifPresentOrElse(
+                    inverse -> assertEquals(FieldMatrix.identity(field, size), matrix.multiply(inverse)),
+                    () -> assertEquals(0, matrix.determinant()));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestFields")
+    void solveTest(IntField field) {
+        Random random = new Random(field.getCharacteristic());
+        FieldMatrix matrix = randomMatrix(field, 60, 80, random);
+        int[] expected = randomMatrix(field, 1, 80, random).getRow(0);
+        int[] vector = matrix.multiply(expected);
+        int[] solution = matrix.solve(vector).orElseThrow();
+        assertArrayEquals(vector, matrix.multiply(solution));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestFields")
+    void rankAndDeterminantTest(IntField field) {
+        Random random = new Random(field.getCharacteristic());
+        FieldMatrix first = randomMatrix(field, 70, 12, random);
+        FieldMatrix second = randomMatrix(field, 12, 70, random);
+        FieldMatrix product = first.multiply(second);
+        assertTrue(product.rank() <= 12);
+        assertEquals(0, product.determinant());
+        FieldMatrix left = randomMatrix(field, 30, 30, random);
+        FieldMatrix right = randomMatrix(field, 30, 30, random);
+        assertEquals(field.multiply(left.determinant(), right.determinant()),
+                left.multiply(right).determinant());
+    }
+
+    static Stream<IntField> provideTestFields() {
+        return Stream.of(
+                new GaloisField(7),
+                new GaloisField(65521),
+                new GaloisFieldExtension(new GaloisField(2),
+                        new Polynomial(new int[]{1, 0, 1, 1, 1, 0, 0, 0, 1}), ExtensionMode.LOG_TABLE),
+                new GaloisFieldExtension(new GaloisField(3), new Polynomial(new int[]{1, 2, 0, 1})));
+    }
+
+    private static FieldMatrix randomMatrix(IntField field, int rows, int columns, Random random) {
+        FieldMatrix matrix = new FieldMatrix(field, rows, columns);
+        for(int i = 0; i < rows; i ++){
+            for(int j = 0; j < columns; j ++){
+                matrix.set(i, j, random.nextInt(field.getCharacteristic()));
+            }
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,79 @@
+package dstu.csae;
+
+import dstu.csae.galois.GaloisField;
+import dstu.csae.galois.extended.ExtensionMode;
+import dstu.csae.galois.extended.FieldRegistry;
+import dstu.csae.galois.extended.GaloisFieldExtension;
+import dstu.csae.polynomial.Polynomial;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FieldRegistryTest {
+
+    private static final Polynomial OCTIC = new Polynomial(new int[]{1, 0, 1, 1, 1, 0, 0, 0, 1});
+
+    @Test
+    void sharedInstanceTest() {
+        FieldRegistry registry = new FieldRegistry(FieldRegistry.DEFAULT_MAXIMUM_WEIGHT);
+        GaloisFieldExtension first = registry.get(new GaloisField(2), OCTIC);
+        GaloisFieldExtension second = registry.get(new GaloisField(2),
+                new Polynomial(new int[]{3, 2, 1, 1, 1, 0, 0, 0, 1, 0}));
+        GaloisFieldExtension logTable = registry.get(new GaloisField(2), OCTIC, ExtensionMode.LOG_TABLE);
+        assertSame(first, second);
+        assertNotSame(first, logTable);
+        assertEquals(1, registry.getHitCount());
+        assertEquals(2, registry.getMissCount());
+        assertEquals(2, registry.size());
+        assertThrows(UnsupportedOperationException.class, () -> first.getElements().set(0, OCTIC));
+    }
+
+    @Test
+    void concurrentBuildTest() throws Exception {
+        FieldRegistry registry = new FieldRegistry(FieldRegistry.DEFAULT_MAXIMUM_WEIGHT);
+        GaloisField field = new GaloisField(2);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try{
+            List<Future<GaloisFieldExtension>> futures = IntStream.range(0, 16)
+                    .mapToObj(i -> executor.submit(() -> registry.get(field, OCTIC, ExtensionMode.LOG_TABLE)))
+                    .toList();
+            GaloisFieldExtension expected = futures.get(0).get();
+            for(Future<GaloisFieldExtension> future : futures){
+                assertSame(expected, future.get());
+            }
+        }finally {
+            executor.shutdown();
+        }
+        assertEquals(1, registry.getMissCount());
+        assertEquals(15, registry.getHitCount());
+    }
+
+    @Test
+    void evictionTest() {
+        GaloisField field = new GaloisField(2);
+        GaloisFieldExtension quartic = new GaloisFieldExtension(field, new Polynomial(new int[]{1, 1, 0, 0, 1}));
+        FieldRegistry registry = new FieldRegistry(3 * 16 * 16 * Byte.BYTES * 2);
+        GaloisFieldExtension first = registry.get(field, new Polynomial(new int[]{1, 1, 0, 0, 1}));
+        registry.get(field, new Polynomial(new int[]{1, 0, 0, 1, 1}));
+        assertEquals(1, registry.getEvictionCount());
+        assertTrue(registry.getRetainedWeight() <= registry.getMaximumWeight());
+        assertSame(first, registry.get(field, new Polynomial(new int[]{1, 1, 0, 0, 1})));
+        assertEquals(quartic, first);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> registry.get(field, new Polynomial(new int[]{1, 0, 1, 0, 1})));
+        assertThrows(IllegalArgumentException.class,
+                () -> registry.get(field, new Polynomial(new int[]{1, 0, 1, 0, 1})));
+        assertEquals(2, registry.size());
+    }
+}
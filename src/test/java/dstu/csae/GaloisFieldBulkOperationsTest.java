@@ -0,0 +1,168 @@
+package dstu.csae;
+
+import dstu.csae.galois.GaloisField;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GaloisFieldBulkOperationsTest {
+
+    private static final int LENGTH = 1031;
+    private static final int[] LENGTHS = {0, 1, 7, 17, 33, LENGTH};
+
+    static int[] provideFieldElements(GaloisField field, Random random) {
+        return random.ints(LENGTH, 0, field.getCharacteristic()).toArray();
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestFields")
+    void multiplyAllTest(GaloisField field) {
+        Random random = new Random(field.getCharacteristic());
+        int[] first = provideFieldElements(field, random);
+        int[] second = provideFieldElements(field, random);
+        int[] product = new int[LENGTH];
+        field.multiplyAll(first, second, product);
+        for(int i = 0; i < LENGTH; i ++){
+            assertEquals(field.multiply(first[i], second[i]), product[i]);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestFields")
+    void scaleAndAccumulateTest(GaloisField field) {
+        Random random = new Random(field.getCharacteristic());
+        int[] x = provideFieldElements(field, random);
+        int[] accumulator = provideFieldElements(field, random);
+        int[] expected = new int[LENGTH];
+        int scalar = random.nextInt(field.getCharacteristic());
+        for(int i = 0; i < LENGTH; i ++){
+            expected[i] = field.add(accumulator[i], field.multiply(scalar, x[i]));
+        }
+        field.scaleAndAccumulate(scalar, x, accumulator);
+        for(int i = 0; i < LENGTH; i ++){
+            assertEquals(expected[i], accumulator[i]);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestFields")
+    void dotTest(GaloisField field) {
+        Random random = new Random(field.getCharacteristic());
+        int[] first = provideFieldElements(field, random);
+        int[] second = provideFieldElements(field, random);
+        int expected = 0;
+        for(int i = 0; i < LENGTH; i ++){
+            expected = field.add(expected, field.multiply(first[i], second[i]));
+        }
+        assertEquals(expected, field.dot(first, second));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestFields")
+    void addSubtractAllTest(GaloisField field) {
+        Random random = new Random(field.getCharacteristic());
+        for(int length : LENGTHS){
+            int[] first = random.ints(length, 0, field.getCharacteristic()).toArray();
+            int[] second = random.ints(length, 0, field.getCharacteristic()).toArray();
+            int[] sum = new int[length];
+            int[] difference = new int[length];
+            field.addAll(first, second, sum);
+            field.subtractAll(first, second, difference);
+            for(int i = 0; i < length; i ++){
+                assertEquals(field.add(first[i], second[i]), sum[i]);
+                assertEquals(field.subtract(first[i], second[i]), difference[i]);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> field.addAll(new int[2], new int[1], new int[2]));
+        assertThrows(IllegalArgumentException.class, () -> field.subtractAll(new int[2], new int[2], null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestFields")
+    void unreducedInputTest(GaloisField field) {
+        Random random = new Random(-field.getCharacteristic());
+        for(int length : LENGTHS){
+            int[] first = random.ints(length).toArray();
+            int[] second = random.ints(length).toArray();
+            int[] accumulator = random.ints(length).toArray();
+            int[] sum = new int[length];
+            int[] difference = new int[length];
+            int[] product = new int[length];
+            int[] expected = new int[length];
+            int scalar = random.nextInt();
+            int dot = 0;
+            for(int i = 0; i < length; i ++){
+                expected[i] = field.add(accumulator[i], field.multiply(scalar, first[i]));
+                dot = field.add(dot, field.multiply(first[i], second[i]));
+            }
+            field.addAll(first, second, sum);
+            field.subtractAll(first, second, difference);
+            field.multiplyAll(first, second, product);
+            field.scaleAndAccumulate(scalar, first, accumulator);
+            for(int i = 0; i < length; i ++){
+                assertEquals(field.add(first[i], second[i]), sum[i]);
+                assertEquals(field.subtract(first[i], second[i]), difference[i]);
+                assertEquals(field.multiply(first[i], second[i]), product[i]);
+                assertEquals(expected[i], accumulator[i]);
+            }
+            assertEquals(dot, field.dot(first, second));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestFields")
+    void shortOverloadsTest(GaloisField field) {
+        if(field.getCharacteristic() > 1 << Short.SIZE){
+            assertThrows(IllegalArgumentException.class, () -> field.addAll(new short[1], new short[1], new short[1]));
+            assertThrows(IllegalArgumentException.class, () -> field.dot(new short[1], new short[1]));
+            return;
+        }
+        Random random = new Random(field.getCharacteristic());
+        for(int length : LENGTHS){
+            short[] first = randomShorts(random, length);
+            short[] second = randomShorts(random, length);
+            short[] accumulator = randomShorts(random, length);
+            short[] sum = new short[length];
+            short[] product = new short[length];
+            int[] expected = new int[length];
+            int scalar = random.nextInt();
+            int dot = 0;
+            for(int i = 0; i < length; i ++){
+                int x = Short.toUnsignedInt(first[i]);
+                int y = Short.toUnsignedInt(second[i]);
+                expected[i] = field.add(Short.toUnsignedInt(accumulator[i]), field.multiply(scalar, x));
+                dot = field.add(dot, field.multiply(x, y));
+            }
+            field.addAll(first, second, sum);
+            field.multiplyAll(first, second, product);
+            field.scaleAndAccumulate(scalar, first, accumulator);
+            for(int i = 0; i < length; i ++){
+                int x = Short.toUnsignedInt(first[i]);
+                int y = Short.toUnsignedInt(second[i]);
+                assertEquals(field.add(x, y), Short.toUnsignedInt(sum[i]));
+                assertEquals(field.multiply(x, y), Short.toUnsignedInt(product[i]));
+                assertEquals(expected[i], Short.toUnsignedInt(accumulator[i]));
+            }
+            assertEquals(dot, field.dot(first, second));
+        }
+        assertThrows(IllegalArgumentException.class, () -> field.multiplyAll(new short[2], new short[2], new short[1]));
+    }
+
+    private static short[] randomShorts(Random random, int length) {
+        short[] values = new short[length];
+        for(int i = 0; i < length; i ++){
+            values[i] = (short) random.nextInt();
+        }
+        return values;
+    }
+
+    static Stream<GaloisField> provideTestFields() {
+        return Stream.of(new GaloisField(2), new GaloisField(7681),
+                new GaloisField(46337), new GaloisField(65521), new GaloisField(2147483647));
+    }
+}
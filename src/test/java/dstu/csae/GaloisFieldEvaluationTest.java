@@ -0,0 +1,92 @@
+package dstu.csae;
+
+import dstu.csae.galois.GaloisField;
+import dstu.csae.galois.extended.ExtensionMode;
+import dstu.csae.galois.extended.GaloisFieldExtension;
+import dstu.csae.polynomial.Polynomial;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GaloisFieldEvaluationTest {
+
+    @ParameterizedTest
+    @MethodSource("provideEvaluationData")
+    void evaluateAllTest(GaloisField field, int length, int pointCount) {
+        Random random = new Random(31L * length + pointCount);
+        int[] values = new int[length];
+        for(int i = 0; i < length; i ++){
+            values[i] = random.nextInt() % field.getCharacteristic();
+        }
+        Polynomial polynomial = new Polynomial(values);
+        int[] points = new int[pointCount];
+        int[] expected = new int[pointCount];
+        BigInteger modulus = BigInteger.valueOf(field.getCharacteristic());
+        for(int i = 0; i < pointCount; i ++){
+            points[i] = random.nextInt();
+            expected[i] = polynomial.evaluate(BigInteger.valueOf(points[i])).orElseThrow().mod(modulus).intValue();
+            if(i % 97 == 0){
+                assertEquals(expected[i], field.evaluate(polynomial, points[i]));
+            }
+        }
+        int[] out = new int[pointCount + 1];
+        field.evaluateAll(polynomial, points, out);
+        int[] actual = new int[pointCount];
+        System.arraycopy(out, 0, actual, 0, pointCount);
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void extensionEvaluateTest() {
+        GaloisFieldExtension extension = new GaloisFieldExtension(new GaloisField(2),
+                new Polynomial(new int[]{1, 0, 1, 1, 1, 0, 0, 0, 1}), ExtensionMode.LOG_TABLE);
+        Polynomial polynomial = new Polynomial(new int[]{7, 0, 200, 1, 255});
+        int[] points = new int[256];
+        int[] out = new int[256];
+        for(int x = 0; x < points.length; x ++){
+            points[x] = x;
+        }
+        extension.evaluateAll(polynomial, points, out);
+        for(int x = 0; x < points.length; x ++){
+            int expected = 0;
+            for(int degree = polynomial.getDegree(); degree >= 0; degree --){
+                expected = extension.add(extension.multiply(expected, x), polynomial.get(degree));
+            }
+            assertEquals(expected, out[x]);
+            assertEquals(expected, extension.evaluate(polynomial, x));
+        }
+        assertThrows(IllegalArgumentException.class, () -> extension.evaluateAll(polynomial, points, new int[1]));
+        assertThrows(IllegalArgumentException.class, () -> extension.evaluate(null, 1));
+    }
+
+    @Test
+    void polynomialEvaluateTest() {
+        Polynomial polynomial = new Polynomial(new int[]{-4, 0, 3, 2});
+        assertEquals(2 * 27 + 3 * 9 - 4, polynomial.evaluate(3));
+        assertEquals(BigInteger.valueOf(2 * 27 + 3 * 9 - 4), polynomial.evaluate(BigInteger.valueOf(3)).orElseThrow());
+        assertEquals(2 * 0.125 + 3 * 0.25 - 4, polynomial.evaluate(0.5), 1e-12);
+        GaloisField field = new GaloisField(7);
+        assertThrows(IllegalArgumentException.class, () -> field.evaluate(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> field.evaluateAll(polynomial, null, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> field.evaluateAll(polynomial, new int[2], new int[1]));
+    }
+
+    static Stream<Arguments> provideEvaluationData() {
+        return Stream.of(
+                Arguments.of(new GaloisField(2), 300, 100),
+                Arguments.of(new GaloisField(13), 5, 1000),
+                Arguments.of(new GaloisField(65537), 500, 2000),
+                Arguments.of(new GaloisField(65521), 1000, 700),
+                Arguments.of(new GaloisField(2147483647), 300, 1500)
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package dstu.csae;
 
 import dstu.csae.galois.GaloisField;
+import dstu.csae.galois.extended.ExtensionMode;
 import dstu.csae.galois.extended.GaloisFieldExtension;
 import dstu.csae.polynomial.Polynomial;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -31,6 +32,8 @@ public class GaloisFieldExtensionAdditiveInverseTest {
 
     static Stream<GaloisFieldExtension> provideTestFields() {
         GaloisField baseField = new GaloisField(2);
-        return Stream.of(new GaloisFieldExtension(baseField, new Polynomial(new int[]{1, 0, 1, 1})));
+        return Stream.of(new GaloisFieldExtension(baseField, new Polynomial(new int[]{1, 0, 1, 1})),
+                new GaloisFieldExtension(baseField, new Polynomial(new int[]{1, 0, 1, 1}), ExtensionMode.LOG_TABLE),
+                new GaloisFieldExtension(baseField, new Polynomial(new int[]{1, 0, 1, 1}), ExtensionMode.TABLE_FREE));
     }
 }
\ No newline at end of file
@@ -1,12 +1,14 @@
 package dstu.csae;
 
 import dstu.csae.galois.GaloisField;
+import dstu.csae.galois.extended.ExtensionMode;
 import dstu.csae.galois.extended.GaloisFieldExtension;
 import dstu.csae.polynomial.Polynomial;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -31,8 +33,23 @@ public class GaloisFieldExtensionMultiplyInverseTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("provideTestFields")
+    void invertAllTest(GaloisFieldExtension field) {
+        int[] elements = IntStream.concat(IntStream.of(0), provideFieldElements(field).stream().mapToInt(x -> x))
+                .toArray();
+        int[] inverses = new int[elements.length];
+        field.invertAll(elements, inverses);
+        assertEquals(0, inverses[0]);
+        for(int i = 1; i < elements.length; i ++){
+            assertEquals(field.inverseOfMultiplication(elements[i]), inverses[i]);
+        }
+    }
+
     static Stream<GaloisFieldExtension> provideTestFields() {
         GaloisField baseField = new GaloisField(2);
-        return Stream.of(new GaloisFieldExtension(baseField, new Polynomial(new int[]{1, 0, 1, 1})));
+        return Stream.of(new GaloisFieldExtension(baseField, new Polynomial(new int[]{1, 0, 1, 1})),
+                new GaloisFieldExtension(baseField, new Polynomial(new int[]{1, 0, 1, 1}), ExtensionMode.LOG_TABLE),
+                new GaloisFieldExtension(baseField, new Polynomial(new int[]{1, 0, 1, 1}), ExtensionMode.TABLE_FREE));
     }
 }
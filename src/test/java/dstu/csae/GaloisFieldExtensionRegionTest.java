@@ -0,0 +1,76 @@
+package dstu.csae;
+
+import dstu.csae.galois.GaloisField;
+import dstu.csae.galois.extended.ExtensionMode;
+import dstu.csae.galois.extended.GaloisFieldExtension;
+import dstu.csae.polynomial.Polynomial;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class GaloisFieldExtensionRegionTest {
+
+    @ParameterizedTest
+    @MethodSource("provideTestFields")
+    void multiplyAccumulateArrayTest(GaloisFieldExtension field) {
+        Random random = new Random(field.getDegree());
+        byte[] source = new byte[1002];
+        byte[] destination = new byte[1004];
+        random.nextBytes(source);
+        random.nextBytes(destination);
+        int coefficient = random.nextInt(field.getCharacteristic());
+        byte[] expected = expected(field, coefficient, source, 2, destination, 4, 1000);
+        field.multiplyAccumulateRegion(coefficient, source, 2, destination, 4, 1000);
+        assertArrayEquals(expected, destination);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestFields")
+    void multiplyAccumulateDirectBufferTest(GaloisFieldExtension field) {
+        Random random = new Random(field.getDegree());
+        byte[] source = new byte[998];
+        byte[] destination = new byte[998];
+        random.nextBytes(source);
+        random.nextBytes(destination);
+        int coefficient = random.nextInt(field.getCharacteristic());
+        byte[] expected = expected(field, coefficient, source, 0, destination, 0, source.length);
+        ByteBuffer sourceBuffer = ByteBuffer.allocateDirect(source.length).put(source).flip();
+        ByteBuffer destinationBuffer = ByteBuffer.allocateDirect(destination.length).put(destination).flip();
+        field.multiplyAccumulateRegion(coefficient, sourceBuffer, destinationBuffer);
+        byte[] actual = new byte[destination.length];
+        destinationBuffer.get(actual);
+        assertArrayEquals(expected, actual);
+    }
+
+    static Stream<GaloisFieldExtension> provideTestFields() {
+        GaloisField field = new GaloisField(2);
+        return Stream.of(
+                new GaloisFieldExtension(field, new Polynomial(new int[]{1, 0, 1, 1, 1, 0, 0, 0, 1})),
+                new GaloisFieldExtension(field,
+                        new Polynomial(new int[]{1, 1, 0, 1, 0, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 1}),
+                        ExtensionMode.LOG_TABLE));
+    }
+
+    private static byte[] expected(GaloisFieldExtension field, int coefficient,
+                                   byte[] source, int sourceOffset,
+                                   byte[] destination, int destinationOffset, int length) {
+        byte[] expected = destination.clone();
+        int width = field.getDegree() / Byte.SIZE;
+        for(int i = 0; i < length; i += width){
+            int element = 0;
+            for(int k = 0; k < width; k ++){
+                element |= (source[sourceOffset + i + k] & 0xFF) << (Byte.SIZE * k);
+            }
+            int product = field.multiply(coefficient, element);
+            for(int k = 0; k < width; k ++){
+                expected[destinationOffset + i + k] ^= (byte) (product >>> (Byte.SIZE * k));
+            }
+        }
+        return expected;
+    }
+}
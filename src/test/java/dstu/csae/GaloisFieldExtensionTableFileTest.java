@@ -0,0 +1,80 @@
+package dstu.csae;
+
+import dstu.csae.galois.GaloisField;
+import dstu.csae.galois.extended.ExtensionMode;
+import dstu.csae.galois.extended.GaloisFieldExtension;
+import dstu.csae.polynomial.Polynomial;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GaloisFieldExtensionTableFileTest {
+
+    @ParameterizedTest
+    @MethodSource("provideTestArguments")
+    void persistedTablesTest(GaloisField field, Polynomial polynomial, Polynomial other, ExtensionMode mode)
+            throws Exception {
+        Path directory = Files.createTempDirectory("galois");
+        Path file = directory.resolve("tables.bin");
+        GaloisFieldExtension expected = new GaloisFieldExtension(field, polynomial, mode);
+
+        assertSameTables(expected, new GaloisFieldExtension(field, polynomial, mode, file));
+        byte[] written = Files.readAllBytes(file);
+        assertSameTables(expected, new GaloisFieldExtension(field, polynomial, mode, file));
+        assertArrayEquals(written, Files.readAllBytes(file));
+
+        byte[] corrupted = written.clone();
+        corrupted[corrupted.length - 3] ^= 0x5A;
+        Files.write(file, corrupted);
+        assertSameTables(expected, new GaloisFieldExtension(field, polynomial, mode, file));
+        assertArrayEquals(written, Files.readAllBytes(file));
+
+        assertSameTables(new GaloisFieldExtension(field, other, mode),
+                new GaloisFieldExtension(field, other, mode, file));
+
+        expected.writeTables(file);
+        assertArrayEquals(written, Files.readAllBytes(file));
+        Files.delete(file);
+        try(Stream<Path> remaining = Files.list(directory)){
+            assertEquals(0, remaining.count());
+        }
+        Files.delete(directory);
+    }
+
+    static Stream<Arguments> provideTestArguments() {
+        GaloisField binary = new GaloisField(2);
+        GaloisField ternary = new GaloisField(3);
+        Polynomial quartic = new Polynomial(new int[]{1, 1, 0, 0, 1});
+        Polynomial otherQuartic = new Polynomial(new int[]{1, 0, 0, 1, 1});
+        Polynomial cubic = new Polynomial(new int[]{1, 2, 0, 1});
+        Polynomial otherCubic = new Polynomial(new int[]{2, 2, 0, 1});
+        Polynomial nonic = new Polynomial(new int[]{1, 0, 0, 0, 1, 0, 0, 0, 0, 1});
+        Polynomial otherNonic = new Polynomial(new int[]{1, 0, 0, 0, 0, 1, 0, 0, 0, 1});
+        return Stream.of(
+                Arguments.of(binary, nonic, otherNonic, ExtensionMode.OPERATION_MATRIX),
+                Arguments.of(binary, quartic, otherQuartic, ExtensionMode.OPERATION_MATRIX),
+                Arguments.of(binary, quartic, otherQuartic, ExtensionMode.LOG_TABLE),
+                Arguments.of(ternary, cubic, otherCubic, ExtensionMode.OPERATION_MATRIX),
+                Arguments.of(ternary, cubic, otherCubic, ExtensionMode.LOG_TABLE));
+    }
+
+    private static void assertSameTables(GaloisFieldExtension expected, GaloisFieldExtension actual) {
+        int size = expected.getCharacteristic();
+        assertEquals(size, actual.getCharacteristic());
+        for(int i = 0; i < size; i ++){
+            for(int j = 0; j < size; j ++){
+                assertEquals(expected.add(i, j), actual.add(i, j));
+                assertEquals(expected.multiply(i, j), actual.multiply(i, j));
+            }
+            assertTrue(expected.isPrimitive(i) == actual.isPrimitive(i));
+        }
+    }
+}
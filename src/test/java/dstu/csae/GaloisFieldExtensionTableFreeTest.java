@@ -0,0 +1,96 @@
+package dstu.csae;
+
+import dstu.csae.galois.GaloisField;
+import dstu.csae.galois.PolynomialAccumulator;
+import dstu.csae.galois.extended.ExtensionMode;
+import dstu.csae.galois.extended.GaloisFieldExtension;
+import dstu.csae.polynomial.Polynomial;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GaloisFieldExtensionTableFreeTest {
+
+    @ParameterizedTest
+    @MethodSource("provideLargeFields")
+    void polynomialArithmeticTest(GaloisField field, int degree) {
+        Polynomial modulus = field.findPrimitivePolynomial(degree).orElseThrow();
+        GaloisFieldExtension extension = new GaloisFieldExtension(field, modulus, ExtensionMode.TABLE_FREE);
+        assertEquals(BigInteger.valueOf(field.getCharacteristic()).pow(degree), extension.getOrder());
+        Random random = new Random(degree);
+        for(int step = 0; step < 20; step ++){
+            Polynomial first = TestPolynomials.randomPolynomial(random, degree, field.getCharacteristic());
+            Polynomial second = TestPolynomials.randomPolynomial(random, degree, field.getCharacteristic());
+            Polynomial product = extension.multiply(first, second).orElseThrow();
+            assertEquals(new PolynomialAccumulator(field).mulAdd(first, second).reduceMod(modulus).toPolynomial(),
+                    product);
+            assertEquals(first, extension.divide(product, second).orElseThrow());
+            Polynomial sum = extension.add(first, second).orElseThrow();
+            assertEquals(first, extension.subtract(sum, second).orElseThrow());
+            assertEquals(Polynomial.ZERO, extension.add(first,
+                    extension.inverseOfAddition(first).orElseThrow()).orElseThrow());
+            Polynomial inverse = extension.inverseOfMultiplication(first).orElseThrow();
+            assertEquals(Polynomial.ONE, extension.multiply(first, inverse).orElseThrow());
+            Polynomial power = Polynomial.ONE;
+            for(int k = 0; k < 100; k ++){
+                power = extension.multiply(power, first).orElseThrow();
+            }
+            assertEquals(power, extension.powMod(first, 100).orElseThrow());
+            assertEquals(extension.inverseOfMultiplication(extension.powMod(first, 3).orElseThrow()).orElseThrow(),
+                    extension.powMod(first, -3).orElseThrow());
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideLargeFields")
+    void indexArithmeticTest(GaloisField field, int degree) {
+        Polynomial modulus = field.findPrimitivePolynomial(degree).orElseThrow();
+        GaloisFieldExtension extension = new GaloisFieldExtension(field, modulus, ExtensionMode.TABLE_FREE);
+        assertThrows(IllegalArgumentException.class, extension::getCharacteristic);
+        assertEquals(-1, extension.bringToField(-1));
+        assertEquals(Integer.MAX_VALUE, extension.bringToField(Integer.MAX_VALUE));
+        assertTrue(extension.isNormalized(extension.get(Integer.MAX_VALUE)));
+        assertFalse(extension.isNormalized(new Polynomial(new int[]{-1})));
+        assertNotNull(extension.findFirstPrimitive());
+        Random random = new Random(-degree);
+        for(int step = 0; step < 50; step ++){
+            int first = random.nextInt(1 << 12);
+            int second = 1 + random.nextInt(1 << 12);
+            Polynomial firstP = extension.get(first);
+            Polynomial secondP = extension.get(second);
+            assertEquals(extension.indexOf(extension.add(firstP, secondP).orElseThrow()),
+                    extension.add(first, second));
+            assertEquals(extension.indexOf(extension.subtract(firstP, secondP).orElseThrow()),
+                    extension.subtract(first, second));
+            assertEquals(extension.indexOf(extension.multiply(firstP, secondP).orElseThrow()),
+                    extension.multiply(first, second));
+            assertEquals(extension.indexOf(extension.divide(firstP, secondP).orElseThrow()),
+                    extension.divide(first, second));
+            assertEquals(extension.indexOf(extension.inverseOfMultiplication(secondP).orElseThrow()),
+                    extension.inverseOfMultiplication(second));
+            assertEquals(extension.indexOf(extension.powMod(secondP, 100).orElseThrow()),
+                    extension.powMod(second, 100));
+        }
+        assertEquals(extension.indexOf(extension.powMod(extension.get(5), 100).orElseThrow()),
+                extension.powMod(5, 100));
+        assertEquals(1, extension.powMod(1, -7));
+        assertEquals(-1, extension.multiply(-1, 3));
+    }
+
+    static Stream<Arguments> provideLargeFields() {
+        return Stream.of(
+                Arguments.of(new GaloisField(3), 25),
+                Arguments.of(new GaloisField(2), 40)
+        );
+    }
+}
@@ -0,0 +1,95 @@
+package dstu.csae;
+
+import dstu.csae.galois.GaloisField;
+import dstu.csae.galois.IntField;
+import dstu.csae.galois.Interpolator;
+import dstu.csae.galois.extended.ExtensionMode;
+import dstu.csae.galois.extended.GaloisFieldExtension;
+import dstu.csae.polynomial.Polynomial;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GaloisFieldInterpolationTest {
+
+    @ParameterizedTest
+    @MethodSource("provideInterpolationData")
+    void interpolateTest(GaloisField field, int count) {
+        Random random = new Random(count);
+        int[] points = distinct(random, count, field.getCharacteristic());
+        int[] values = random.ints(count, 0, field.getCharacteristic()).toArray();
+        Polynomial polynomial = field.interpolate(points, values);
+        assertTrue(polynomial.getDegree() < Math.max(1, count));
+        int[] out = new int[count];
+        field.evaluateAll(polynomial, points, out);
+        assertArrayEquals(values, out);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideInterpolationData")
+    void reuseWeightsTest(GaloisField field, int count) {
+        Random random = new Random(-count);
+        Interpolator interpolator = new Interpolator(field, distinct(random, count, field.getCharacteristic()));
+        assertEquals(count, interpolator.getSize());
+        for(int step = 0; step < 3; step ++){
+            int[] values = random.ints(count, 0, field.getCharacteristic()).toArray();
+            Polynomial polynomial = interpolator.interpolate(values);
+            int x = random.nextInt(field.getCharacteristic());
+            assertEquals(field.evaluate(polynomial, x), interpolator.evaluate(values, x));
+            assertEquals(polynomial.get(0), interpolator.evaluate(values, 0));
+        }
+    }
+
+    @Test
+    void extensionInterpolateTest() {
+        GaloisFieldExtension extension = new GaloisFieldExtension(new GaloisField(2),
+                new Polynomial(new int[]{1, 0, 1, 1, 1, 0, 0, 0, 1}), ExtensionMode.LOG_TABLE);
+        Random random = new Random(8);
+        int[] points = distinct(random, 40, extension.getCharacteristic());
+        int[] values = random.ints(points.length, 0, extension.getCharacteristic()).toArray();
+        Polynomial polynomial = extension.interpolate(points, values);
+        for(int i = 0; i < points.length; i ++){
+            assertEquals(values[i], extension.evaluate(polynomial, points[i]));
+        }
+        Interpolator interpolator = new Interpolator(extension, points);
+        assertEquals(extension.evaluate(polynomial, 0), interpolator.evaluate(values, 0));
+    }
+
+    @Test
+    void invalidPointsTest() {
+        GaloisField field = new GaloisField(65537);
+        assertThrows(IllegalArgumentException.class, () -> new Interpolator(field, new int[]{1, 2, 65538}));
+        int[] repeated = IntStream.range(0, 100).map(i -> i % 99).toArray();
+        assertThrows(IllegalArgumentException.class, () -> new Interpolator(field, repeated));
+        assertThrows(IllegalArgumentException.class, () -> new Interpolator((IntField) null, new int[1]));
+        Interpolator interpolator = new Interpolator(field, new int[]{3, 5});
+        assertThrows(IllegalArgumentException.class, () -> interpolator.interpolate(new int[3]));
+        assertThrows(IllegalArgumentException.class, () -> interpolator.interpolate(null));
+        assertEquals(Polynomial.ZERO, new Interpolator(field, new int[0]).interpolate(new int[0]));
+        assertArrayEquals(new int[]{4, 2}, interpolator.interpolate(new int[]{10, 14}).getCoefficients());
+    }
+
+    static Stream<Arguments> provideInterpolationData() {
+        return Stream.of(
+                Arguments.of(new GaloisField(13), 1),
+                Arguments.of(new GaloisField(13), 13),
+                Arguments.of(new GaloisField(65521), 63),
+                Arguments.of(new GaloisField(65537), 1000),
+                Arguments.of(new GaloisField(2147483647), 333)
+        );
+    }
+
+    private static int[] distinct(Random random, int count, int bound) {
+        return random.ints(0, bound).distinct().limit(count).toArray();
+    }
+}
@@ -0,0 +1,68 @@
+package dstu.csae;
+
+import dstu.csae.exceptions.ReverseElementEvaluationException;
+import dstu.csae.galois.GaloisField;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GaloisFieldInverseTest {
+
+    @ParameterizedTest
+    @MethodSource("provideSmallCharacteristics")
+    void tableMatchesBinaryTest(int characteristic) {
+        GaloisField table = new GaloisField(characteristic, Integer.MAX_VALUE);
+        GaloisField binary = new GaloisField(characteristic, 0);
+        assertEquals(GaloisField.DEFAULT_INVERSE_TABLE_THRESHOLD,
+                new GaloisField(characteristic).getInverseTableThreshold());
+        for(int number = 1; number < characteristic; number ++){
+            int expected = table.inverseOfMultiplication(number);
+            assertEquals(expected, binary.inverseOfMultiplication(number));
+            assertEquals(1, table.multiply(number, expected));
+            assertEquals(expected, table.inverseOfMultiplication(number - characteristic));
+            assertEquals(expected, binary.inverseOfMultiplication(number + characteristic));
+        }
+        assertThrows(ReverseElementEvaluationException.class, () -> table.inverseOfMultiplication(0));
+        assertThrows(ReverseElementEvaluationException.class, () -> binary.inverseOfMultiplication(characteristic));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideLargeCharacteristics")
+    void binaryInverseTest(int characteristic) {
+        GaloisField field = new GaloisField(characteristic);
+        BigInteger modulus = BigInteger.valueOf(characteristic);
+        Random random = new Random(characteristic);
+        for(int step = 0; step < 2000; step ++){
+            int number = step < 2 ? characteristic - 1 - step : 1 + random.nextInt(characteristic - 1);
+            int expected = BigInteger.valueOf(number).modInverse(modulus).intValue();
+            assertEquals(expected, field.inverseOfMultiplication(number));
+        }
+        assertEquals(1, field.inverseOfMultiplication(1));
+        assertThrows(ReverseElementEvaluationException.class, () -> field.inverseOfMultiplication(0));
+    }
+
+    static Stream<Arguments> provideSmallCharacteristics() {
+        return Stream.of(
+                Arguments.of(2),
+                Arguments.of(3),
+                Arguments.of(257),
+                Arguments.of(65521),
+                Arguments.of(65537)
+        );
+    }
+
+    static Stream<Arguments> provideLargeCharacteristics() {
+        return Stream.of(
+                Arguments.of(1000003),
+                Arguments.of(2147483629),
+                Arguments.of(2147483647)
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package dstu.csae;
+
+import dstu.csae.galois.GaloisField;
+import dstu.csae.polynomial.Polynomial;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GaloisFieldIrreducibilityTest {
+
+    @ParameterizedTest
+    @MethodSource("provideCountArguments")
+    void irreducibleCountTest(GaloisField field, int degree, int expected) {
+        int p = field.getCharacteristic();
+        int total = (int) Math.pow(p, degree);
+        int count = 0;
+        for(int value = 0; value < total; value ++){
+            int[] coefficients = new int[degree + 1];
+            for(int i = 0, rest = value; i < degree; i ++, rest /= p){
+                coefficients[i] = rest % p;
+            }
+            coefficients[degree] = 1;
+            if(field.isIrreducible(new Polynomial(coefficients))){
+                count ++;
+            }
+        }
+        assertEquals(expected, count);
+    }
+
+    @Test
+    void largeDegreeTest() {
+        GaloisField field = new GaloisField(2);
+        int[] trinomial = new int[234];
+        trinomial[0] = 1;
+        trinomial[74] = 1;
+        trinomial[233] = 1;
+        assertTrue(field.isIrreducible(new Polynomial(trinomial)));
+
+        GaloisField prime = new GaloisField(65521);
+        Random random = new Random(233);
+        Polynomial first = TestPolynomials.randomPolynomial(random, 101, prime.getCharacteristic());
+        Polynomial second = TestPolynomials.randomPolynomial(random, 97, prime.getCharacteristic());
+        assertFalse(prime.isIrreducible(prime.multiply(first, second).orElseThrow()));
+    }
+
+    static Stream<Arguments> provideCountArguments() {
+        return Stream.of(
+                Arguments.of(new GaloisField(2), 4, 3),
+                Arguments.of(new GaloisField(2), 8, 30),
+                Arguments.of(new GaloisField(3), 3, 8),
+                Arguments.of(new GaloisField(5), 4, 150));
+    }
+}
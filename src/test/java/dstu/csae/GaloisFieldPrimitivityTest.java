@@ -0,0 +1,108 @@
+package dstu.csae;
+
+import dstu.csae.galois.GaloisField;
+import dstu.csae.galois.extended.ExtensionMode;
+import dstu.csae.galois.extended.GaloisFieldExtension;
+import dstu.csae.math.ArithmeticFunctions;
+import dstu.csae.polynomial.Polynomial;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GaloisFieldPrimitivityTest {
+
+    @ParameterizedTest
+    @MethodSource("provideExtensionArguments")
+    void primitiveElementCountTest(GaloisFieldExtension field) {
+        int order = field.getCharacteristic() - 1;
+        int[] primitives = field.findAllIntPrimitive();
+        assertEquals(ArithmeticFunctions.getEulerFunction(order), primitives.length);
+        assertEquals(primitives[0], field.findFirstIntPrimitive());
+        assertFalse(field.isPrimitive(0));
+        for(int element : primitives){
+            int power = 1;
+            for(int i = 1; i < order; i ++){
+                power = field.multiply(power, element);
+                assertTrue(power != 1);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideCountArguments")
+    void primitivePolynomialCountTest(GaloisField field, int degree, int expected) {
+        int p = field.getCharacteristic();
+        int total = (int) Math.pow(p, degree);
+        int count = 0;
+        for(int value = 0; value < total; value ++){
+            int[] coefficients = new int[degree + 1];
+            for(int i = 0, rest = value; i < degree; i ++, rest /= p){
+                coefficients[i] = rest % p;
+            }
+            coefficients[degree] = 1;
+            if(field.isPrimitive(new Polynomial(coefficients))){
+                count ++;
+            }
+        }
+        assertEquals(expected, count);
+    }
+
+    @Test
+    void findPrimitivePolynomialTest() {
+        GaloisField field = new GaloisField(2);
+        Polynomial primitive = field.findPrimitivePolynomial(16).orElseThrow();
+        assertEquals(16, primitive.getDegree());
+        assertTrue(field.isPrimitive(primitive));
+        assertFalse(field.isPrimitive(new Polynomial(new int[]{1, 1, 1, 1, 1})));
+
+        GaloisField prime = new GaloisField(7);
+        Polynomial modulus = prime.findPrimitivePolynomial(3).orElseThrow();
+        GaloisFieldExtension extension = new GaloisFieldExtension(prime, modulus, ExtensionMode.TABLE_FREE);
+        assertTrue(extension.isPrimitive(7));
+    }
+
+    @Test
+    void searchDegreeBoundTest() {
+        assertThrows(IllegalArgumentException.class, () -> new GaloisField(2).findPrimitivePolynomial(63));
+        assertThrows(IllegalArgumentException.class, () -> new GaloisField(3).findPrimitivePolynomial(40));
+        assertThrows(IllegalArgumentException.class, () -> new GaloisField(65521).findPrimitivePolynomial(4));
+        assertThrows(IllegalArgumentException.class, () -> new GaloisField(2147483647).findPrimitivePolynomial(3));
+
+        int[] trinomial = new int[32];
+        trinomial[0] = trinomial[3] = trinomial[31] = 1;
+        GaloisFieldExtension large = new GaloisFieldExtension(new GaloisField(2), new Polynomial(trinomial),
+                ExtensionMode.TABLE_FREE);
+        assertThrows(IllegalArgumentException.class, large::findAllIntPrimitive);
+        assertEquals(2, large.findFirstIntPrimitive());
+    }
+
+    static Stream<GaloisFieldExtension> provideExtensionArguments() {
+        GaloisField binary = new GaloisField(2);
+        GaloisField ternary = new GaloisField(3);
+        Polynomial octic = new Polynomial(new int[]{1, 0, 1, 1, 1, 0, 0, 0, 1});
+        Polynomial cubic = new Polynomial(new int[]{1, 2, 0, 1});
+        return Stream.of(
+                new GaloisFieldExtension(binary, octic),
+                new GaloisFieldExtension(binary, octic, ExtensionMode.LOG_TABLE),
+                new GaloisFieldExtension(binary, octic, ExtensionMode.TABLE_FREE),
+                new GaloisFieldExtension(ternary, cubic),
+                new GaloisFieldExtension(ternary, cubic, ExtensionMode.LOG_TABLE),
+                new GaloisFieldExtension(ternary, cubic, ExtensionMode.TABLE_FREE));
+    }
+
+    static Stream<Arguments> provideCountArguments() {
+        return Stream.of(
+                Arguments.of(new GaloisField(2), 4, 2),
+                Arguments.of(new GaloisField(2), 8, 16),
+                Arguments.of(new GaloisField(3), 3, 4),
+                Arguments.of(new GaloisField(5), 4, 48));
+    }
+}
@@ -0,0 +1,116 @@
+package dstu.csae;
+
+import dstu.csae.exceptions.ReverseElementEvaluationException;
+import dstu.csae.galois.LongGaloisField;
+import dstu.csae.math.ArithmeticFunctions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.security.InvalidParameterException;
+import java.util.Random;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LongGaloisFieldTest {
+
+    @ParameterizedTest
+    @MethodSource("provideCharacteristics")
+    void arithmeticTest(long characteristic) {
+        LongGaloisField field = new LongGaloisField(characteristic);
+        BigInteger modulus = BigInteger.valueOf(characteristic);
+        Random random = new Random(characteristic);
+        long[] values = LongStream.concat(
+                LongStream.of(0, 1, 2, characteristic - 1, characteristic - 2, characteristic,
+                        Long.MAX_VALUE, Long.MIN_VALUE, -1),
+                random.longs(200)).toArray();
+        for(int i = 0; i < values.length; i ++){
+            long first = values[i];
+            long second = values[(i * 7 + 3) % values.length];
+            BigInteger x = BigInteger.valueOf(first).mod(modulus);
+            BigInteger y = BigInteger.valueOf(second).mod(modulus);
+            assertEquals(x.longValue(), field.bringToField(first));
+            assertEquals(x.longValue(), field.bringToField(BigInteger.valueOf(first)));
+            assertEquals(x.add(y).mod(modulus).longValue(), field.add(first, second));
+            assertEquals(x.subtract(y).mod(modulus).longValue(), field.subtract(first, second));
+            assertEquals(x.multiply(y).mod(modulus).longValue(), field.multiply(first, second));
+            assertEquals(x.negate().mod(modulus).longValue(), field.inverseOfAddition(first));
+            long degree = random.nextLong() >>> 1;
+            assertEquals(x.modPow(BigInteger.valueOf(degree), modulus).longValue(), field.powMod(first, degree));
+            if(x.signum() == 0){
+                assertThrows(ReverseElementEvaluationException.class, () -> field.inverseOfMultiplication(first));
+                assertThrows(ArithmeticException.class, () -> field.divide(second, first));
+                continue;
+            }
+            assertEquals(x.modInverse(modulus).longValue(), field.inverseOfMultiplication(first));
+            assertEquals(x.modPow(BigInteger.valueOf(-degree), modulus).longValue(), field.powMod(first, -degree));
+            if(y.signum() != 0){
+                assertEquals(x.multiply(y.modInverse(modulus)).mod(modulus).longValue(), field.divide(first, second));
+            }
+        }
+        assertEquals(1, field.powMod(0, 0));
+        assertEquals(1, field.powMod(characteristic - 1, characteristic - 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("providePrimalityData")
+    void isPrimeTest(long number, boolean expected) {
+        assertEquals(expected, ArithmeticFunctions.isPrime(number));
+        if(!expected){
+            assertThrows(InvalidParameterException.class, () -> new LongGaloisField(number));
+        }
+    }
+
+    @Test
+    void isPrimeMatchesBigIntegerTest() {
+        Random random = new Random(63);
+        for(int step = 0; step < 2000; step ++){
+            long number = (random.nextLong() >>> 1) | 1 | (1L << 40);
+            assertEquals(BigInteger.valueOf(number).isProbablePrime(64), ArithmeticFunctions.isPrime(number));
+        }
+    }
+
+    static Stream<Arguments> provideCharacteristics() {
+        return Stream.of(
+                Arguments.of(2L),
+                Arguments.of(3L),
+                Arguments.of(65537L),
+                Arguments.of(2147483647L),
+                Arguments.of(4294967291L),
+                Arguments.of(2305843009213693951L),
+                Arguments.of(4611686018427387847L),
+                Arguments.of(9223372036854775783L)
+        );
+    }
+
+    static Stream<Arguments> providePrimalityData() {
+        return Stream.of(
+                Arguments.of(561L, false),
+                Arguments.of(1105L, false),
+                Arguments.of(2047L, false),
+                Arguments.of(3215031751L, false),
+                Arguments.of(2152302898747L, false),
+                Arguments.of(3474749660383L, false),
+                Arguments.of(341550071728321L, false),
+                Arguments.of(3825123056546413051L, false),
+                Arguments.of(4611686014132420609L, false),
+                Arguments.of(4611685975477714963L, false),
+                Arguments.of(4294967291L, true),
+                Arguments.of(2305843009213693951L, true),
+                Arguments.of(4611686018427387847L, true),
+                Arguments.of(9223372036854775783L, true),
+                Arguments.of(Long.MAX_VALUE, false),
+                Arguments.of(-4294967289L, false),
+                Arguments.of(-4294967294L, false),
+                Arguments.of(-2147483647L, false),
+                Arguments.of(Long.MIN_VALUE + 7, false),
+                Arguments.of(1L, false),
+                Arguments.of(0L, false)
+        );
+    }
+}
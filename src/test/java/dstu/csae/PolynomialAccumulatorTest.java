@@ -0,0 +1,89 @@
+package dstu.csae;
+
+import dstu.csae.galois.GaloisField;
+import dstu.csae.galois.PolynomialAccumulator;
+import dstu.csae.polynomial.Polynomial;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PolynomialAccumulatorTest {
+
+    @ParameterizedTest
+    @MethodSource("provideTestFields")
+    void accumulateTest(GaloisField field) {
+        Random random = new Random(field.getCharacteristic());
+        PolynomialAccumulator accumulator = new PolynomialAccumulator(field, 4);
+        Polynomial expected = Polynomial.ZERO;
+        for(int step = 0; step < 200; step ++){
+            Polynomial first = TestPolynomials.randomPolynomial(random, 1 + random.nextInt(40), field.getCharacteristic());
+            Polynomial second = TestPolynomials.randomPolynomial(random, 1 + random.nextInt(40), field.getCharacteristic());
+            int scalar = random.nextInt(field.getCharacteristic());
+            switch (step % 4){
+                case 0 -> {
+                    accumulator.addTo(first);
+                    expected = field.add(expected, first).orElseThrow();
+                }
+                case 1 -> {
+                    accumulator.subtractFrom(first);
+                    expected = field.subtract(expected, first).orElseThrow();
+                }
+                case 2 -> {
+                    accumulator.mulAdd(first, second);
+                    expected = field.add(expected, field.multiply(first, second).orElseThrow()).orElseThrow();
+                }
+                default -> {
+                    accumulator.mulAdd(scalar, first, 3).scale(scalar + 1);
+                    Polynomial shifted = field.multiply(first,
+                            new Polynomial(new int[]{0, 0, 0, scalar})).orElseThrow();
+                    expected = field.multiply(field.add(expected, shifted).orElseThrow(),
+                            new Polynomial(new int[]{scalar + 1})).orElseThrow();
+                }
+            }
+            assertArrayEquals(trim(expected), trim(accumulator.toPolynomial()));
+        }
+        Polynomial modulus = TestPolynomials.randomPolynomial(random, 17, field.getCharacteristic());
+        accumulator.reduceMod(modulus);
+        assertArrayEquals(trim(field.mod(expected, modulus).orElseThrow()), trim(accumulator.toPolynomial()));
+        assertTrue(accumulator.getDegree() < 16);
+    }
+
+    @Test
+    void workspaceTest() {
+        GaloisField field = new GaloisField(7);
+        PolynomialAccumulator accumulator = new PolynomialAccumulator(field, 8);
+        accumulator.set(new Polynomial(new int[]{3, -1, 9, 0, 0}));
+        assertArrayEquals(new int[]{3, 6, 2}, accumulator.toPolynomial().getCoefficients());
+        assertEquals(2, accumulator.getDegree());
+        accumulator.subtractFrom(new Polynomial(new int[]{3, 6, 2}));
+        assertTrue(accumulator.isZero());
+        assertEquals(8, accumulator.getCapacity());
+        accumulator.addTo(new Polynomial(new int[]{1, 2, 3}));
+        accumulator.reduceMod(new Polynomial(new int[]{5}));
+        assertTrue(accumulator.isZero());
+        assertThrows(IllegalArgumentException.class, () -> accumulator.reduceMod(new Polynomial(new int[]{7, 0})));
+        assertThrows(IllegalArgumentException.class, () -> accumulator.addTo(null));
+    }
+
+    static Stream<GaloisField> provideTestFields() {
+        return Stream.of(new GaloisField(2), new GaloisField(13), new GaloisField(65521), new GaloisField(2147483647));
+    }
+
+    private static int[] trim(Polynomial polynomial) {
+        int[] coefficients = polynomial.getCoefficients();
+        int length = coefficients.length;
+        while(length > 1 && coefficients[length - 1] == 0){
+            length --;
+        }
+        return Arrays.copyOf(coefficients, length);
+    }
+}
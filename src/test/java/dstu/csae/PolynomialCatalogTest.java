@@ -0,0 +1,76 @@
+package dstu.csae;
+
+import dstu.csae.galois.GaloisField;
+import dstu.csae.galois.extended.ExtensionMode;
+import dstu.csae.galois.extended.GaloisFieldExtension;
+import dstu.csae.galois.extended.PolynomialCatalog;
+import dstu.csae.galois.extended.PolynomialKind;
+import dstu.csae.polynomial.Polynomial;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PolynomialCatalogTest {
+
+    @ParameterizedTest
+    @MethodSource("provideCatalogArguments")
+    void catalogEntriesTest(int characteristic, int degree) {
+        GaloisField field = new GaloisField(characteristic);
+        Polynomial irreducible = PolynomialCatalog.find(characteristic, degree, PolynomialKind.IRREDUCIBLE).orElseThrow();
+        Polynomial primitive = PolynomialCatalog.find(characteristic, degree, PolynomialKind.PRIMITIVE).orElseThrow();
+        assertEquals(degree, irreducible.getDegree());
+        assertEquals(degree, primitive.getDegree());
+        assertTrue(field.isIrreducible(irreducible));
+        assertTrue(field.isPrimitive(primitive));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideConwayArguments")
+    void conwayTest(int characteristic, int degree, int[] expected) {
+        Polynomial conway = PolynomialCatalog.find(characteristic, degree, PolynomialKind.CONWAY).orElseThrow();
+        assertArrayEquals(expected, conway.getCoefficients());
+        assertTrue(new GaloisField(characteristic).isPrimitive(conway));
+    }
+
+    @Test
+    void createExtensionTest() {
+        GaloisFieldExtension field = PolynomialCatalog.createExtension(2, 8, ExtensionMode.LOG_TABLE);
+        assertEquals(256, field.getCharacteristic());
+        assertEquals(2, field.findFirstIntPrimitive());
+
+        assertTrue(PolynomialCatalog.find(257, 2, PolynomialKind.PRIMITIVE).isEmpty());
+        GaloisFieldExtension searched = PolynomialCatalog.createExtension(257, 2, ExtensionMode.TABLE_FREE);
+        assertEquals(2, searched.getDegree());
+        assertTrue(new GaloisField(257).isPrimitive(searched.getPolynomial()));
+        assertTrue(PolynomialCatalog.getModulus(257, 2) == PolynomialCatalog.getModulus(257, 2));
+
+        assertThrows(IllegalArgumentException.class, () -> PolynomialCatalog.find(2, 8, null));
+    }
+
+    static Stream<Arguments> provideCatalogArguments() {
+        return Stream.of(
+                Arguments.of(2, 1),
+                Arguments.of(2, 8),
+                Arguments.of(2, 64),
+                Arguments.of(3, 40),
+                Arguments.of(101, 5),
+                Arguments.of(251, 8));
+    }
+
+    static Stream<Arguments> provideConwayArguments() {
+        return Stream.of(
+                Arguments.of(2, 8, new int[]{1, 0, 1, 1, 1, 0, 0, 0, 1}),
+                Arguments.of(2, 12, new int[]{1, 1, 0, 1, 0, 1, 1, 1, 0, 0, 0, 0, 1}),
+                Arguments.of(3, 4, new int[]{2, 0, 0, 2, 1}),
+                Arguments.of(5, 3, new int[]{3, 3, 0, 1}),
+                Arguments.of(7, 2, new int[]{3, 6, 1}));
+    }
+}
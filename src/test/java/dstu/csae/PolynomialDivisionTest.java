@@ -0,0 +1,40 @@
+package dstu.csae;
+
+import dstu.csae.galois.GaloisField;
+import dstu.csae.polynomial.Polynomial;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PolynomialDivisionTest {
+
+    @ParameterizedTest
+    @MethodSource("provideDivisionArguments")
+    void divisionWithRemainderTest(GaloisField field, int divisibleLength, int divisorLength) {
+        Random random = new Random(divisibleLength * 31L + divisorLength);
+        Polynomial divisible = TestPolynomials.randomPolynomial(random, divisibleLength, field.getCharacteristic());
+        Polynomial divisor = TestPolynomials.randomPolynomial(random, divisorLength, field.getCharacteristic());
+        Polynomial quotient = field.divide(divisible, divisor).orElseThrow();
+        Polynomial remainder = field.mod(divisible, divisor).orElseThrow();
+        assertTrue(remainder.getDegree() < divisor.getDegree() || remainder.equals(Polynomial.ZERO));
+        Polynomial restored = field.add(field.multiply(divisor, quotient).orElseThrow(), remainder).orElseThrow();
+        assertEquals(divisible, restored);
+    }
+
+    static Stream<Arguments> provideDivisionArguments() {
+        return Stream.of(
+                Arguments.of(new GaloisField(7), 6, 3),
+                Arguments.of(new GaloisField(7), 3, 6),
+                Arguments.of(new GaloisField(5), 40, 1),
+                Arguments.of(new GaloisField(65521), 300, 100),
+                Arguments.of(new GaloisField(998244353), 2000, 700),
+                Arguments.of(new GaloisField(2), 1500, 400),
+                Arguments.of(new GaloisField(2147483647), 1200, 500));
+    }
+}
@@ -0,0 +1,64 @@
+package dstu.csae;
+
+import dstu.csae.galois.GaloisField;
+import dstu.csae.polynomial.Polynomial;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PolynomialMultiplicationTest {
+
+    @ParameterizedTest
+    @MethodSource("provideFieldMultiplicationArguments")
+    void fieldMultiplicationTest(GaloisField field, int firstLength, int secondLength) {
+        Random random = new Random(firstLength * 31L + secondLength);
+        int[] first = TestPolynomials.randomCoefficients(random, firstLength, field.getCharacteristic());
+        int[] second = TestPolynomials.randomCoefficients(random, secondLength, field.getCharacteristic());
+        long modulus = field.getCharacteristic();
+        int[] expected = new int[firstLength + secondLength - 1];
+        for(int i = 0; i < firstLength; i ++){
+            for(int j = 0; j < secondLength; j ++){
+                expected[i + j] = (int) ((expected[i + j] + (long) first[i] * second[j]) % modulus);
+            }
+        }
+        assertEquals(new Polynomial(expected),
+                field.multiply(new Polynomial(first), new Polynomial(second)).orElseThrow());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideIntegerMultiplicationArguments")
+    void integerMultiplicationTest(int firstLength, int secondLength) {
+        Random random = new Random(firstLength * 31L + secondLength);
+        int[] first = TestPolynomials.randomCoefficients(random, firstLength, 1 << 20);
+        int[] second = TestPolynomials.randomCoefficients(random, secondLength, 1 << 20);
+        int[] expected = new int[firstLength + secondLength - 1];
+        for(int i = 0; i < firstLength; i ++){
+            for(int j = 0; j < secondLength; j ++){
+                expected[i + j] += first[i] * second[j];
+            }
+        }
+        assertEquals(new Polynomial(expected), new Polynomial(first).multiply(new Polynomial(second)));
+    }
+
+    static Stream<Arguments> provideFieldMultiplicationArguments() {
+        return Stream.of(
+                Arguments.of(new GaloisField(7), 5, 9),
+                Arguments.of(new GaloisField(7), 300, 170),
+                Arguments.of(new GaloisField(998244353), 700, 900),
+                Arguments.of(new GaloisField(65521), 1000, 40),
+                Arguments.of(new GaloisField(65521), 600, 1100),
+                Arguments.of(new GaloisField(2147483647), 1500, 1500));
+    }
+
+    static Stream<Arguments> provideIntegerMultiplicationArguments() {
+        return Stream.of(
+                Arguments.of(10, 3),
+                Arguments.of(257, 100),
+                Arguments.of(1000, 999));
+    }
+}
@@ -0,0 +1,85 @@
+package dstu.csae;
+
+import dstu.csae.polynomial.Polynomial;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PolynomialTest {
+
+    @ParameterizedTest
+    @MethodSource("provideCanonicalArguments")
+    void canonicalFormTest(int[] padded, int[] canonical) {
+        Polynomial polynomial = new Polynomial(padded);
+        assertArrayEquals(canonical, polynomial.getCoefficients());
+        assertEquals(canonical.length - 1, polynomial.getDegree());
+        assertEquals(new Polynomial(canonical), polynomial);
+        assertEquals(new Polynomial(canonical).hashCode(), polynomial.hashCode());
+        assertEquals(0, polynomial.compareTo(new Polynomial(canonical)));
+        assertEquals(0, polynomial.get(canonical.length + 3));
+    }
+
+    @Test
+    void setAndOrderTest() {
+        Polynomial polynomial = new Polynomial(4).set(4, 1).set(0, 1);
+        assertArrayEquals(new int[]{1, 0, 0, 0, 1}, polynomial.getCoefficients());
+        assertArrayEquals(new int[]{1, 0, 0, 0, 1, 0, 2}, polynomial.set(6, 2).getCoefficients());
+        assertArrayEquals(new int[]{1}, polynomial.set(4, 0).getCoefficients());
+        assertThrows(IndexOutOfBoundsException.class, () -> polynomial.set(-1, 1));
+
+        Polynomial[] sorted = {
+                new Polynomial(new int[]{0, 1, 0}),
+                new Polynomial(new int[]{2}),
+                new Polynomial(new int[]{1, 1}),
+                new Polynomial(new int[]{0, 0, 0})};
+        Arrays.sort(sorted);
+        assertArrayEquals(new Polynomial[]{Polynomial.ZERO, Polynomial.ONE.set(0, 2),
+                new Polynomial(new int[]{0, 1}), new Polynomial(new int[]{1, 1})}, sorted);
+
+        Set<Polynomial> keys = new HashSet<>();
+        keys.add(new Polynomial(new int[]{1, 0}));
+        assertTrue(keys.contains(Polynomial.ONE));
+    }
+
+    @Test
+    void toStringTest() {
+        assertEquals("0", Polynomial.ZERO.toString());
+        assertEquals("0", new Polynomial(new int[]{0, 0}).toString());
+        assertEquals("0", new Polynomial(new int[]{0, 0, 0}).toString());
+        assertEquals("5", new Polynomial(new int[]{5, 0}).toString());
+        assertEquals(new Polynomial(new int[]{1, 0, 1}).toString('x'),
+                new Polynomial(new int[]{1, 0, 1, 0}).toString());
+        assertTrue(new Polynomial(new int[]{0, 0, 1}).toString().startsWith("1x"));
+    }
+
+    @Test
+    void defensiveCopyTest() {
+        int[] source = {1, 2, 3};
+        Polynomial polynomial = new Polynomial(source);
+        int hash = polynomial.hashCode();
+        source[2] = 0;
+        assertArrayEquals(new int[]{1, 2, 3}, polynomial.getCoefficients());
+        assertEquals(2, polynomial.getDegree());
+        assertEquals(hash, polynomial.hashCode());
+        assertEquals(new Polynomial(new int[]{1, 2, 3}), polynomial);
+    }
+
+    static Stream<Arguments> provideCanonicalArguments() {
+        return Stream.of(
+                Arguments.of(new int[]{0, 0, 0}, new int[]{0}),
+                Arguments.of(new int[]{1, 0}, new int[]{1}),
+                Arguments.of(new int[]{3, 0, 2, 0, 0}, new int[]{3, 0, 2}),
+                Arguments.of(new int[]{0, 1}, new int[]{0, 1}));
+    }
+}
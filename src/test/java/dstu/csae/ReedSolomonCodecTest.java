@@ -0,0 +1,124 @@
+package dstu.csae;
+
+import dstu.csae.erasure.ReedSolomonCodec;
+import dstu.csae.galois.GaloisField;
+import dstu.csae.galois.extended.ExtensionMode;
+import dstu.csae.galois.extended.GaloisFieldExtension;
+import dstu.csae.polynomial.Polynomial;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReedSolomonCodecTest {
+
+    @ParameterizedTest
+    @MethodSource("provideTestCodecs")
+    void reconstructTest(ReedSolomonCodec codec) {
+        Random random = new Random(codec.getTotalShards());
+        for(int attempt = 0; attempt < 20; attempt ++){
+            ByteBuffer[] shards = encodedStripe(codec, random, attempt % 2 == 0);
+            ByteBuffer[] expected = copy(shards);
+            boolean[] present = erase(codec, shards, random);
+            codec.reconstruct(shards, present);
+            for(int i = 0; i < shards.length; i ++){
+                assertEquals(expected[i], shards[i]);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestCodecs")
+    void reconstructStripesTest(ReedSolomonCodec codec) {
+        Random random = new Random(codec.getDataShards());
+        List<ByteBuffer[]> stripes = new ArrayList<>();
+        List<ByteBuffer[]> expected = new ArrayList<>();
+        List<boolean[]> present = new ArrayList<>();
+        for(int stripe = 0; stripe < 16; stripe ++){
+            ByteBuffer[] shards = encodedStripe(codec, random, false);
+            expected.add(copy(shards));
+            present.add(erase(codec, shards, random));
+            stripes.add(shards);
+        }
+        codec.reconstruct(stripes, present);
+        for(int stripe = 0; stripe < stripes.size(); stripe ++){
+            for(int i = 0; i < codec.getTotalShards(); i ++){
+                assertEquals(expected.get(stripe)[i], stripes.get(stripe)[i]);
+            }
+        }
+    }
+
+    @Test
+    void decodeCacheSizeTest() {
+        GaloisFieldExtension field = new GaloisFieldExtension(
+                new GaloisField(2), new Polynomial(new int[]{1, 0, 1, 1, 1, 0, 0, 0, 1}));
+        assertEquals(ReedSolomonCodec.DEFAULT_DECODE_CACHE_SIZE,
+                new ReedSolomonCodec(field, 4, 2).getDecodeCacheSize());
+        assertEquals(1, new ReedSolomonCodec(field, 4, 2, 1).getDecodeCacheSize());
+        assertThrows(IllegalArgumentException.class, () -> new ReedSolomonCodec(field, 4, 2, -1));
+    }
+
+    static Stream<ReedSolomonCodec> provideTestCodecs() {
+        GaloisField field = new GaloisField(2);
+        GaloisFieldExtension byteField = new GaloisFieldExtension(
+                field, new Polynomial(new int[]{1, 0, 1, 1, 1, 0, 0, 0, 1}));
+        GaloisFieldExtension shortField = new GaloisFieldExtension(
+                field, new Polynomial(new int[]{1, 1, 0, 1, 0, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 1}),
+                ExtensionMode.LOG_TABLE);
+        return Stream.of(
+                new ReedSolomonCodec(byteField, 4, 2),
+                new ReedSolomonCodec(byteField, 10, 4),
+                new ReedSolomonCodec(byteField, 10, 4, 0),
+                new ReedSolomonCodec(byteField, 10, 4, 1),
+                new ReedSolomonCodec(shortField, 6, 3));
+    }
+
+    private static ByteBuffer[] encodedStripe(ReedSolomonCodec codec, Random random, boolean direct) {
+        int size = 2 * (1 + random.nextInt(300));
+        ByteBuffer[] shards = new ByteBuffer[codec.getTotalShards()];
+        for(int i = 0; i < shards.length; i ++){
+            shards[i] = direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+        }
+        for(int i = 0; i < codec.getDataShards(); i ++){
+            byte[] bytes = new byte[size];
+            random.nextBytes(bytes);
+            shards[i].put(bytes).flip();
+        }
+        ByteBuffer[] data = new ByteBuffer[codec.getDataShards()];
+        ByteBuffer[] parity = new ByteBuffer[codec.getParityShards()];
+        System.arraycopy(shards, 0, data, 0, data.length);
+        System.arraycopy(shards, data.length, parity, 0, parity.length);
+        codec.encode(data, parity);
+        return shards;
+    }
+
+    private static boolean[] erase(ReedSolomonCodec codec, ByteBuffer[] shards, Random random) {
+        boolean[] present = new boolean[shards.length];
+        Arrays.fill(present, true);
+        for(int erased = 0; erased < codec.getParityShards(); erased ++){
+            int i = random.nextInt(shards.length);
+            present[i] = false;
+            for(int j = 0; j < shards[i].limit(); j ++){
+                shards[i].put(j, (byte) 0);
+            }
+        }
+        return present;
+    }
+
+    private static ByteBuffer[] copy(ByteBuffer[] shards) {
+        ByteBuffer[] copy = new ByteBuffer[shards.length];
+        for(int i = 0; i < shards.length; i ++){
+            copy[i] = ByteBuffer.allocate(shards[i].remaining()).put(shards[i].duplicate()).flip();
+        }
+        return copy;
+    }
+}
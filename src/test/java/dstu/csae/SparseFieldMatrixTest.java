@@ -0,0 +1,106 @@
+package dstu.csae;
+
+import dstu.csae.galois.GaloisField;
+import dstu.csae.linear.FieldMatrix;
+import dstu.csae.linear.SparseFieldMatrix;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SparseFieldMatrixTest {
+
+    @ParameterizedTest
+    @MethodSource("provideTestFields")
+    void multiplyTest(GaloisField field) {
+        Random random = new Random(field.getCharacteristic());
+        int size = 50;
+        int[] rows = new int[400];
+        int[] columns = new int[400];
+        int[] values = new int[400];
+        FieldMatrix dense = new FieldMatrix(field, size, size);
+        for(int k = 0; k < values.length; k ++){
+            rows[k] = random.nextInt(size);
+            columns[k] = random.nextInt(size);
+            values[k] = random.nextInt(field.getCharacteristic());
+            dense.set(rows[k], columns[k], field.add(dense.get(rows[k], columns[k]), values[k]));
+        }
+        SparseFieldMatrix sparse = SparseFieldMatrix.fromTriplets(field, size, size, rows, columns, values);
+        int[] vector = new int[size];
+        for(int i = 0; i < size; i ++){
+            vector[i] = random.nextInt(field.getCharacteristic());
+        }
+        assertArrayEquals(dense.multiply(vector), sparse.multiply(vector));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestFields")
+    void solveTest(GaloisField field) {
+        Random random = new Random(field.getCharacteristic());
+        int size = 400;
+        SparseFieldMatrix matrix = randomNonSingular(field, size, random);
+        int[] expected = new int[size];
+        for(int i = 0; i < size; i ++){
+            expected[i] = random.nextInt(field.getCharacteristic());
+        }
+        int[] vector = matrix.multiply(expected);
+        assertArrayEquals(expected, matrix.solve(vector).orElseThrow());
+    }
+
+    static Stream<GaloisField> provideTestFields() {
+        return Stream.of(new GaloisField(2), new GaloisField(7), new GaloisField(65521));
+    }
+
+    @Test
+    void invalidStructureTest() {
+        GaloisField field = new GaloisField(7);
+        int[] values = new int[]{1, 2, 3, 4};
+        assertThrows(IllegalArgumentException.class, () -> new SparseFieldMatrix(field, 3, 3,
+                new int[]{0, 3, 1, 4}, new int[]{0, 1, 2, 0}, values));
+        assertThrows(IllegalArgumentException.class, () -> new SparseFieldMatrix(field, 3, 3,
+                new int[]{0, 5, 2, 4}, new int[]{0, 1, 2, 0}, values));
+        assertThrows(IllegalArgumentException.class, () -> new SparseFieldMatrix(field, 3, 3,
+                new int[]{0, -1, 2, 4}, new int[]{0, 1, 2, 0}, values));
+        assertThrows(IllegalArgumentException.class, () -> new SparseFieldMatrix(field, 3, 3,
+                new int[]{0, 2, 2, 4}, new int[]{1, 0, 2, 0}, values));
+        assertThrows(IllegalArgumentException.class, () -> new SparseFieldMatrix(field, 3, 3,
+                new int[]{0, 2, 2, 4}, new int[]{0, 1, 2, 3}, values));
+        assertEquals(4, new SparseFieldMatrix(field, 3, 3,
+                new int[]{0, 2, 2, 4}, new int[]{0, 1, 0, 2}, values).getNonZeroCount());
+    }
+
+    private static SparseFieldMatrix randomNonSingular(GaloisField field, int size, Random random) {
+        List<Integer> permutation = new ArrayList<>();
+        for(int i = 0; i < size; i ++){
+            permutation.add(i);
+        }
+        Collections.shuffle(permutation, random);
+        int perRow = 4;
+        int[] rows = new int[size * perRow];
+        int[] columns = new int[size * perRow];
+        int[] values = new int[size * perRow];
+        for(int i = 0; i < size; i ++){
+            for(int k = 0; k < perRow; k ++){
+                int index = i * perRow + k;
+                rows[index] = permutation.get(i);
+                columns[index] = k == 0 ? i : i + random.nextInt(size - i);
+                values[index] = k == 0
+                        ? 1 + random.nextInt(field.getCharacteristic() - 1)
+                        : random.nextInt(field.getCharacteristic());
+                if(k > 0 && columns[index] == i){
+                    values[index] = 0;
+                }
+            }
+        }
+        return SparseFieldMatrix.fromTriplets(field, size, size, rows, columns, values);
+    }
+}
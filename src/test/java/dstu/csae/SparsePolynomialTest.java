@@ -0,0 +1,120 @@
+package dstu.csae;
+
+import dstu.csae.galois.GaloisField;
+import dstu.csae.galois.PolynomialAccumulator;
+import dstu.csae.galois.SparseReducer;
+import dstu.csae.galois.extended.ExtensionMode;
+import dstu.csae.galois.extended.GaloisFieldExtension;
+import dstu.csae.polynomial.Polynomial;
+import dstu.csae.polynomial.SparsePolynomial;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SparsePolynomialTest {
+
+    @Test
+    void constructionTest() {
+        SparsePolynomial sparse = new SparsePolynomial(new int[]{7, 0, 3, 7, 5}, new int[]{2, 1, 4, -2, 0});
+        assertEquals(2, sparse.getWeight());
+        assertEquals(3, sparse.getDegree());
+        assertArrayEquals(new int[]{0, 3}, sparse.getExponents());
+        assertArrayEquals(new int[]{1, 4}, sparse.getCoefficients());
+        assertEquals(4, sparse.get(3));
+        assertEquals(0, sparse.get(7));
+        assertEquals(new Polynomial(new int[]{1, 0, 0, 4}), sparse.toPolynomial());
+        assertEquals(sparse, new SparsePolynomial(sparse.toPolynomial()));
+        assertEquals(sparse.hashCode(), new SparsePolynomial(new int[]{3, 0}, new int[]{4, 1}).hashCode());
+        assertEquals(0, new SparsePolynomial(Polynomial.ZERO).getWeight());
+        assertThrows(IllegalArgumentException.class, () -> new SparsePolynomial(new int[]{1}, new int[]{1, 2}));
+        assertThrows(IllegalArgumentException.class, () -> new SparsePolynomial(new int[]{-1}, new int[]{1}));
+        assertThrows(IllegalArgumentException.class, () -> new SparsePolynomial(null, new int[0]));
+        assertThrows(IndexOutOfBoundsException.class, () -> sparse.getExponent(2));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideReductionData")
+    void reduceTest(GaloisField field, Polynomial modulus) {
+        SparseReducer reducer = SparseReducer.of(field, modulus).orElseThrow();
+        assertEquals(modulus.getDegree(), reducer.getDegree());
+        Random random = new Random(modulus.getDegree());
+        for(int step = 0; step < 20; step ++){
+            int[] values = new int[1 + random.nextInt(2 * modulus.getDegree() + 1)];
+            for(int i = 0; i < values.length; i ++){
+                values[i] = random.nextInt(field.getCharacteristic());
+            }
+            Polynomial dividend = new Polynomial(values);
+            Polynomial expected = new PolynomialAccumulator(field).set(dividend).reduceMod(modulus).toPolynomial();
+            assertEquals(expected, reducer.reduce(dividend));
+            assertEquals(expected, field.mod(dividend, modulus).orElseThrow());
+            int[] raw = random.ints(values.length).toArray();
+            Polynomial rawExpected = new PolynomialAccumulator(field)
+                    .set(field.bringToField(new Polynomial(raw)).orElseThrow()).reduceMod(modulus).toPolynomial();
+            int length = reducer.reduce(raw, raw.length);
+            assertEquals(rawExpected, new Polynomial(Arrays.copyOf(raw, Math.max(1, length))));
+        }
+    }
+
+    @Test
+    void isSparseTest() {
+        GaloisField field = new GaloisField(2);
+        assertFalse(SparseReducer.of(field, new Polynomial(new int[]{1, 1, 1, 1, 1, 1, 1, 1, 1, 1})).isPresent());
+        assertFalse(SparseReducer.of(field, new Polynomial(new int[]{1, 0, 0, 1, 1})).isPresent());
+        assertFalse(SparseReducer.of(field, new Polynomial(new int[]{1, 1})).isPresent());
+        assertTrue(SparseReducer.of(field, new Polynomial(new int[]{1, 1, 0, 0, 1})).isPresent());
+        assertTrue(SparseReducer.of(new GaloisField(3), new Polynomial(new int[]{1, 0, 0, 0, 3, 3, 3, 1})).isPresent());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideExtensionData")
+    void extensionMultiplicationTest(GaloisField field, Polynomial modulus) {
+        GaloisFieldExtension extension = new GaloisFieldExtension(field, modulus, ExtensionMode.TABLE_FREE);
+        Random random = new Random(modulus.getDegree());
+        for(int step = 0; step < 50; step ++){
+            Polynomial first = TestPolynomials.randomPolynomial(random, modulus.getDegree(), field.getCharacteristic());
+            Polynomial second = TestPolynomials.randomPolynomial(random, modulus.getDegree(), field.getCharacteristic());
+            Polynomial expected = new PolynomialAccumulator(field).mulAdd(first, second)
+                    .reduceMod(modulus).toPolynomial();
+            assertEquals(expected, extension.multiply(first, second).orElseThrow());
+        }
+    }
+
+    static Stream<Arguments> provideReductionData() {
+        int[] trinomial = new int[234];
+        trinomial[0] = trinomial[74] = trinomial[233] = 1;
+        int[] pentanomial = new int[164];
+        pentanomial[0] = pentanomial[3] = pentanomial[6] = pentanomial[7] = pentanomial[163] = 1;
+        int[] nonMonic = new int[41];
+        nonMonic[0] = 65520;
+        nonMonic[5] = 17;
+        nonMonic[20] = 3;
+        nonMonic[40] = 12345;
+        return Stream.of(
+                Arguments.of(new GaloisField(2), new Polynomial(trinomial)),
+                Arguments.of(new GaloisField(2), new Polynomial(pentanomial)),
+                Arguments.of(new GaloisField(3), new Polynomial(new int[]{1, 2, 0, 0, 0, 0, 1})),
+                Arguments.of(new GaloisField(65521), new Polynomial(nonMonic))
+        );
+    }
+
+    static Stream<Arguments> provideExtensionData() {
+        int[] trinomial = new int[32];
+        trinomial[0] = trinomial[3] = trinomial[31] = 1;
+        return Stream.of(
+                Arguments.of(new GaloisField(2), new Polynomial(trinomial)),
+                Arguments.of(new GaloisField(3), new Polynomial(new int[]{1, 2, 0, 1})),
+                Arguments.of(new GaloisField(2), new Polynomial(new int[]{1, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1}))
+        );
+    }
+}
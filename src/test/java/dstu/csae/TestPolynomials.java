@@ -0,0 +1,23 @@
+package dstu.csae;
+
+import dstu.csae.polynomial.Polynomial;
+
+import java.util.Random;
+
+final class TestPolynomials {
+
+    private TestPolynomials(){}
+
+    static int[] randomCoefficients(Random random, int length, int bound) {
+        int[] values = new int[length];
+        for(int i = 0; i < length; i ++){
+            values[i] = random.nextInt(bound);
+        }
+        values[length - 1] = 1 + random.nextInt(bound - 1);
+        return values;
+    }
+
+    static Polynomial randomPolynomial(Random random, int length, int bound) {
+        return new Polynomial(randomCoefficients(random, length, bound));
+    }
+}